@@ -0,0 +1,64 @@
+package com.akertesz.task_manager_api.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Task archive job settings (app.archive.*). The job runs every app.archive.interval.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.archive")
+public class ArchiveProperties {
+
+    private boolean enabled = true;
+    // Tasks moved per transaction
+    private int batchSize = 500;
+    // Pause between batches, so archiving never holds the table for long
+    private Duration batchPause = Duration.ofMillis(200);
+    // Age after which COMPLETED tasks are archived, counted from their last change
+    private Duration completedAfter = Duration.ofDays(365);
+    // Age after which soft-deleted tasks are archived, counted from their deletion
+    private Duration deletedAfter = Duration.ofDays(7);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getBatchPause() {
+        return batchPause;
+    }
+
+    public void setBatchPause(Duration batchPause) {
+        this.batchPause = batchPause;
+    }
+
+    public Duration getCompletedAfter() {
+        return completedAfter;
+    }
+
+    public void setCompletedAfter(Duration completedAfter) {
+        this.completedAfter = completedAfter;
+    }
+
+    public Duration getDeletedAfter() {
+        return deletedAfter;
+    }
+
+    public void setDeletedAfter(Duration deletedAfter) {
+        this.deletedAfter = deletedAfter;
+    }
+}
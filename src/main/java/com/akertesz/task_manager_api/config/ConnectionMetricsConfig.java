@@ -0,0 +1,32 @@
+package com.akertesz.task_manager_api.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class ConnectionMetricsConfig {
+
+    // Wraps every Hikari pool (the single auto-configured one, or the primary and replica pools
+    // of DataSourceConfig) so physical connections are timed per endpoint. The routing DataSource
+    // is left alone: its LazyConnectionDataSourceProxy hands out handles before any pool is
+    // touched, so timing it would miss the pool wait. Static and lazy on the registry so it does
+    // not pull the metrics beans into early initialization.
+    @Bean
+    public static BeanPostProcessor connectionMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    return new ConnectionMetricsDataSource(dataSource, meterRegistry::getIfAvailable);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,130 @@
+package com.akertesz.task_manager_api.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every connection handed out by the wrapped DataSource per endpoint:
+ * db.connection.acquire is the wait for a connection (pool wait included), db.connection.hold
+ * the time from getting it to closing it. Both are tagged with the HTTP method and the
+ * matched URI pattern of the current request, or "none" outside a request (scheduled jobs,
+ * imports, migrations). Requests that hold connections long cap the throughput of the pool,
+ * and these timers name them; the pool-wide numbers come from the hikaricp.* metrics.
+ */
+public class ConnectionMetricsDataSource extends DelegatingDataSource {
+
+    static final String ACQUIRE_TIMER = "db.connection.acquire";
+    static final String HOLD_TIMER = "db.connection.hold";
+
+    private static final String NONE = "none";
+    // Inside a request before a handler is matched, e.g. loading the user in the JWT filter
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final Supplier<MeterRegistry> meterRegistryLookup;
+    private volatile MeterRegistry meterRegistry;
+
+    public ConnectionMetricsDataSource(DataSource target, Supplier<MeterRegistry> meterRegistry) {
+        super(target);
+        this.meterRegistryLookup = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection();
+        return timed(connection, start);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection(username, password);
+        return timed(connection, start);
+    }
+
+    private Connection timed(Connection connection, long start) {
+        long acquired = System.nanoTime();
+        record(ACQUIRE_TIMER, acquired - start);
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                new HoldTimer(connection, acquired));
+    }
+
+    // Tagged when the time is recorded, by which point the handler of the request is known
+    private void record(String name, long nanos) {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            // Looked up on first use, not when the DataSource is wrapped during startup
+            registry = meterRegistryLookup.get();
+            if (registry == null) {
+                return;
+            }
+            meterRegistry = registry;
+        }
+        String method = NONE;
+        String uri = NONE;
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes request) {
+            method = request.getRequest().getMethod();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                    RequestAttributes.SCOPE_REQUEST);
+            uri = pattern != null ? pattern.toString() : UNKNOWN;
+        }
+        Timer.builder(name)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private class HoldTimer implements InvocationHandler {
+
+        private final Connection target;
+        private final long acquired;
+        private boolean closed;
+
+        HoldTimer(Connection target, long acquired) {
+            this.target = target;
+            this.acquired = acquired;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        record(HOLD_TIMER, System.nanoTime() - acquired);
+                    }
+                    break;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.akertesz.task_manager_api.config;
+
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.akertesz.task_manager_api.id.IdGenerator;
+import com.akertesz.task_manager_api.id.RandomUuidGenerator;
+import com.akertesz.task_manager_api.id.UuidV7Generator;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    // app.id.strategy: v7 (time-ordered, the default) or random (version 4)
+    @Bean
+    public IdGenerator idGenerator(@Value("${app.id.strategy:v7}") String strategy) {
+        return switch (strategy.toLowerCase(Locale.ROOT)) {
+            case "v7" -> new UuidV7Generator();
+            case "random" -> new RandomUuidGenerator();
+            default -> throw new IllegalArgumentException("Unknown app.id.strategy: " + strategy + " (expected v7 or random)");
+        };
+    }
+}
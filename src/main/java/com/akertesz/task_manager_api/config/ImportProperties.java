@@ -0,0 +1,74 @@
+package com.akertesz.task_manager_api.config;
+
+import java.util.UUID;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Task import settings (app.import.*). file, user and resume are only set to run an import
+ * from the command line.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.import")
+public class ImportProperties {
+
+    // Input records per transaction, and so per checkpoint
+    private int batchSize = 500;
+    // Parsed batches that may wait for the writer before parsing blocks
+    private int queueCapacity = 4;
+    // Rejected rows listed in the result; the rest are only counted
+    private int maxReportedErrors = 100;
+
+    private String file;
+    private String user;
+    private UUID resume;
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getMaxReportedErrors() {
+        return maxReportedErrors;
+    }
+
+    public void setMaxReportedErrors(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public void setUser(String user) {
+        this.user = user;
+    }
+
+    public UUID getResume() {
+        return resume;
+    }
+
+    public void setResume(UUID resume) {
+        this.resume = resume;
+    }
+}
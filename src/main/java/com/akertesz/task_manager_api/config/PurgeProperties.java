@@ -0,0 +1,74 @@
+package com.akertesz.task_manager_api.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Soft-deleted task purge settings (app.purge.*). The job runs every app.purge.interval.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.purge")
+public class PurgeProperties {
+
+    private boolean enabled = true;
+    // How long soft-deleted tasks are kept before they are deleted for good
+    private Duration retention = Duration.ofDays(30);
+    // Rows deleted per transaction
+    private int batchSize = 200;
+    // Upper bound on the delete rate, averaged over each batch
+    private int maxRowsPerSecond = 500;
+    // A batch slower than this is taken as a sign the database is busy...
+    private Duration latencyThreshold = Duration.ofMillis(250);
+    // ...and the job waits this long before the next batch
+    private Duration backoff = Duration.ofSeconds(10);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxRowsPerSecond() {
+        return maxRowsPerSecond;
+    }
+
+    public void setMaxRowsPerSecond(int maxRowsPerSecond) {
+        this.maxRowsPerSecond = maxRowsPerSecond;
+    }
+
+    public Duration getLatencyThreshold() {
+        return latencyThreshold;
+    }
+
+    public void setLatencyThreshold(Duration latencyThreshold) {
+        this.latencyThreshold = latencyThreshold;
+    }
+
+    public Duration getBackoff() {
+        return backoff;
+    }
+
+    public void setBackoff(Duration backoff) {
+        this.backoff = backoff;
+    }
+}
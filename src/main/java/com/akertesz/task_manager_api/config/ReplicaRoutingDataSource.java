@@ -0,0 +1,73 @@
+package com.akertesz.task_manager_api.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes read-only transactions to the replica pool and everything else to the primary.
+ *
+ * A user that performed a read-write transaction within the read-your-writes window keeps
+ * being routed to the primary, so they never read a replica that has not caught up with
+ * their own mutation yet. Must be wrapped in a LazyConnectionDataSourceProxy so the lookup
+ * happens after the transaction's read-only flag has been bound.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private static final int MAX_TRACKED_WRITERS = 10_000;
+
+    private final long readYourWritesWindowMillis;
+    private final Map<String, Long> recentWrites = new ConcurrentHashMap<>();
+
+    public ReplicaRoutingDataSource(Duration readYourWritesWindow) {
+        this.readYourWritesWindowMillis = readYourWritesWindow.toMillis();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String username = currentUsername();
+        long now = System.currentTimeMillis();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWrite(username, now);
+            return PRIMARY;
+        }
+
+        if (username != null) {
+            Long lastWrite = recentWrites.get(username);
+            if (lastWrite != null) {
+                if (now - lastWrite < readYourWritesWindowMillis) {
+                    return PRIMARY;
+                }
+                recentWrites.remove(username, lastWrite);
+            }
+        }
+        return REPLICA;
+    }
+
+    private void recordWrite(String username, long now) {
+        if (username == null || readYourWritesWindowMillis <= 0) {
+            return;
+        }
+        if (recentWrites.size() >= MAX_TRACKED_WRITERS) {
+            recentWrites.values().removeIf(lastWrite -> now - lastWrite >= readYourWritesWindowMillis);
+        }
+        recentWrites.put(username, now);
+    }
+
+    private String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
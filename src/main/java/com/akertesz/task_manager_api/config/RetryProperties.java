@@ -0,0 +1,45 @@
+package com.akertesz.task_manager_api.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Retry of task updates that lost an optimistic-lock race (app.retry.*), see RetryOnConflict.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.retry")
+public class RetryProperties {
+
+    // Attempts in total, the first one included; 1 turns retrying off
+    private int maxAttempts = 3;
+    // Upper bound of the random wait before the first retry, doubled for each further retry...
+    private Duration initialBackoff = Duration.ofMillis(20);
+    // ...up to this
+    private Duration maxBackoff = Duration.ofMillis(200);
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public void setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public void setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+}
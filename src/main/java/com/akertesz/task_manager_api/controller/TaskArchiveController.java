@@ -0,0 +1,60 @@
+package com.akertesz.task_manager_api.controller;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.akertesz.task_manager_api.dto.TaskDto;
+import com.akertesz.task_manager_api.dto.TaskPage;
+import com.akertesz.task_manager_api.service.TaskArchiveService;
+
+// Read-only access to tasks moved to the archive by the archive job
+@RestController
+@RequestMapping("/api/tasks/archive")
+@CrossOrigin(origins = "*", exposedHeaders = TaskController.NEXT_CURSOR_HEADER)
+public class TaskArchiveController {
+    
+    private final TaskArchiveService taskArchiveService;
+    
+    @Autowired
+    public TaskArchiveController(TaskArchiveService taskArchiveService) {
+        this.taskArchiveService = taskArchiveService;
+    }
+    
+    // Get archived tasks, one page at a time
+    @GetMapping
+    public ResponseEntity<List<TaskDto>> getArchivedTasks(@RequestParam(required = false) String cursor,
+                                                          @RequestParam(required = false) Integer limit,
+                                                          @RequestHeader("Authorization") String token) {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        TaskPage page = taskArchiveService.getArchivedTasks(username, cursor, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            response.header(TaskController.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getTasks());
+    }
+    
+    // Get an archived task by ID
+    @GetMapping("/{id}")
+    public ResponseEntity<TaskDto> getArchivedTask(@PathVariable String id, @RequestHeader("Authorization") String token) {
+        try {
+            UUID uuid = UUID.fromString(id);
+            String username = SecurityContextHolder.getContext().getAuthentication().getName();
+            TaskDto task = taskArchiveService.getArchivedTask(uuid, username);
+            return ResponseEntity.ok(task);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid task ID format: " + id);
+        }
+    }
+}
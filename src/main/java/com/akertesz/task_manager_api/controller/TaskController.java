@@ -1,13 +1,26 @@
 package com.akertesz.task_manager_api.controller;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -23,27 +36,46 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.akertesz.task_manager_api.config.JwtUtil;
+import com.akertesz.task_manager_api.dto.BulkResponse;
+import com.akertesz.task_manager_api.dto.BulkTaskUpdateRequest;
 import com.akertesz.task_manager_api.dto.CreateTaskRequest;
 import com.akertesz.task_manager_api.dto.TaskDto;
+import com.akertesz.task_manager_api.dto.TaskPage;
+import com.akertesz.task_manager_api.dto.TaskSuggestionDto;
 import com.akertesz.task_manager_api.dto.UpdateTaskRequest;
+import com.akertesz.task_manager_api.importing.CsvTaskRecordWriter;
 import com.akertesz.task_manager_api.model.TaskPriority;
 import com.akertesz.task_manager_api.model.TaskStatus;
 import com.akertesz.task_manager_api.service.TaskService;
 import com.akertesz.task_manager_api.service.TaskStatistics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/api/tasks")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = TaskController.NEXT_CURSOR_HEADER)
 public class TaskController {
     
+    private static final int MAX_SEARCH_RESULTS = 100;
+    private static final int MAX_BULK_ITEMS = 1000;
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    
+    // Response header carrying the cursor of the next page of a list endpoint; absent on the last page
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    // Value of the include parameter that adds descriptions to a page of tasks
+    private static final String INCLUDE_DESCRIPTION = "description";
+    
     private final TaskService taskService;
     private final JwtUtil jwtUtil;
+    private final ObjectMapper objectMapper;
     @Autowired
-    public TaskController(TaskService taskService, JwtUtil jwtUtil) {
+    public TaskController(TaskService taskService, JwtUtil jwtUtil, ObjectMapper objectMapper) {
         this.taskService = taskService;
         this.jwtUtil = jwtUtil;
+        this.objectMapper = objectMapper;
     }
     
     // Create a new task
@@ -54,12 +86,34 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
     }
     
-    // Get all tasks
+    // Create many tasks in one request; invalid items are reported per item and skipped
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkResponse> createTasks(@RequestBody List<CreateTaskRequest> requests,
+                                                    @RequestHeader("Authorization") String token) {
+        if (requests.isEmpty() || requests.size() > MAX_BULK_ITEMS) {
+            throw new IllegalArgumentException("Bulk requests must contain between 1 and " + MAX_BULK_ITEMS + " tasks");
+        }
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        BulkResponse response = taskService.createTasks(requests, username);
+        return ResponseEntity.ok(response);
+    }
+    
+    // Get all tasks, one page at a time, or every task as NDJSON with Accept: application/x-ndjson
     @GetMapping
-    public ResponseEntity<List<TaskDto>> getAllTasks(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<List<TaskDto>> getAllTasks(@RequestParam(required = false) String cursor,
+                                                     @RequestParam(required = false) Integer limit,
+                                                     @RequestParam(required = false) String include,
+                                                     @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                     @RequestHeader("Authorization") String token,
+                                                     HttpServletResponse response) throws IOException {
+        boolean withDescriptions = includesDescription(include);
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        List<TaskDto> tasks = taskService.getAllTasks(username);
-        return ResponseEntity.ok(tasks);
+        if (acceptsNdjson(accept)) {
+            streamAllTasks(username, response);
+            return null;
+        }
+        TaskPage page = taskService.getAllTasks(username, cursor, limit);
+        return pageResponse(page, withDescriptions, username);
     }
     
     // Get a task by ID
@@ -104,12 +158,17 @@ public class TaskController {
     
     // Get tasks by status
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<TaskDto>> getTasksByStatus(@PathVariable String status, @RequestHeader("Authorization") String token) {
+    public ResponseEntity<List<TaskDto>> getTasksByStatus(@PathVariable String status,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(required = false) Integer limit,
+                                                          @RequestParam(required = false) String include,
+                                                          @RequestHeader("Authorization") String token) {
+        boolean withDescriptions = includesDescription(include);
         try {
             TaskStatus taskStatus = TaskStatus.valueOf(status.toUpperCase());
             String username = SecurityContextHolder.getContext().getAuthentication().getName();
-            List<TaskDto> tasks = taskService.getTasksByStatus(taskStatus, username);
-            return ResponseEntity.ok(tasks);
+            TaskPage page = taskService.getTasksByStatus(taskStatus, username, cursor, limit);
+            return pageResponse(page, withDescriptions, username);
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Invalid status: " + status);
         }
@@ -117,12 +176,17 @@ public class TaskController {
     
     // Get tasks by priority
     @GetMapping("/priority/{priority}")
-    public ResponseEntity<List<TaskDto>> getTasksByPriority(@PathVariable String priority, @RequestHeader("Authorization") String token) {
+    public ResponseEntity<List<TaskDto>> getTasksByPriority(@PathVariable String priority,
+                                                            @RequestParam(required = false) String cursor,
+                                                            @RequestParam(required = false) Integer limit,
+                                                            @RequestParam(required = false) String include,
+                                                            @RequestHeader("Authorization") String token) {
+        boolean withDescriptions = includesDescription(include);
         try {
             TaskPriority taskPriority = TaskPriority.valueOf(priority.toUpperCase());
             String username = SecurityContextHolder.getContext().getAuthentication().getName();
-            List<TaskDto> tasks = taskService.getTasksByPriority(taskPriority, username);
-            return ResponseEntity.ok(tasks);
+            TaskPage page = taskService.getTasksByPriority(taskPriority, username, cursor, limit);
+            return pageResponse(page, withDescriptions, username);
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Invalid priority: " + priority);
         }
@@ -130,46 +194,96 @@ public class TaskController {
     
     // Get overdue tasks
     @GetMapping("/overdue")
-    public ResponseEntity<List<TaskDto>> getOverdueTasks(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<List<TaskDto>> getOverdueTasks(@RequestParam(required = false) String cursor,
+                                                         @RequestParam(required = false) Integer limit,
+                                                         @RequestParam(required = false) String include,
+                                                         @RequestHeader("Authorization") String token) {
+        boolean withDescriptions = includesDescription(include);
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        List<TaskDto> tasks = taskService.getOverdueTasks(username);
-        return ResponseEntity.ok(tasks);
+        TaskPage page = taskService.getOverdueTasks(username, cursor, limit);
+        return pageResponse(page, withDescriptions, username);
     }
     
     // Search tasks by title
     @GetMapping("/search")
-    public ResponseEntity<List<TaskDto>> searchTasksByTitle(@RequestParam(required = false) String title, @RequestHeader("Authorization") String token) {
+    public ResponseEntity<List<TaskDto>> searchTasksByTitle(@RequestParam(required = false) String title,
+                                                            @RequestParam(required = false) String cursor,
+                                                            @RequestParam(required = false) Integer limit,
+                                                            @RequestParam(required = false) String include,
+                                                            @RequestHeader("Authorization") String token) {
+        boolean withDescriptions = includesDescription(include);
         if (title == null) {
             return ResponseEntity.badRequest().build();
         }
-        if (title.trim().isEmpty()) {
-            // Empty title should return empty list, not error
-            String username = SecurityContextHolder.getContext().getAuthentication().getName();
-            List<TaskDto> tasks = taskService.searchTasksByTitle(title, username);
-            return ResponseEntity.ok(tasks);
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        TaskPage page = taskService.searchTasksByTitle(title, username, cursor, limit);
+        return pageResponse(page, withDescriptions, username);
+    }
+    
+    // Full-text search over titles and descriptions ("a b" matches both terms, "a OR b" either)
+    @GetMapping("/search/text")
+    public ResponseEntity<List<TaskDto>> searchTasksFullText(@RequestParam String q,
+                                                             @RequestParam(defaultValue = "20") int limit,
+                                                             @RequestHeader("Authorization") String token) {
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_SEARCH_RESULTS);
+        }
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        List<TaskDto> tasks = taskService.searchTasksFullText(q, limit, username);
+        return ResponseEntity.ok(tasks);
+    }
+    
+    // Typo-tolerant title search using trigram similarity
+    @GetMapping("/search/fuzzy")
+    public ResponseEntity<List<TaskDto>> searchTasksFuzzy(@RequestParam String q,
+                                                          @RequestParam(defaultValue = "20") int limit,
+                                                          @RequestHeader("Authorization") String token) {
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_SEARCH_RESULTS);
         }
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        List<TaskDto> tasks = taskService.searchTasksByTitle(title, username);
+        List<TaskDto> tasks = taskService.searchTasksFuzzy(q, limit, username);
         return ResponseEntity.ok(tasks);
     }
     
+    // Autocomplete task titles from words starting with the prefix
+    @GetMapping("/suggest")
+    public ResponseEntity<List<TaskSuggestionDto>> suggestTasks(@RequestParam String prefix,
+                                                                @RequestParam(defaultValue = "10") int limit,
+                                                                @RequestHeader("Authorization") String token) {
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_SEARCH_RESULTS);
+        }
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        List<TaskSuggestionDto> suggestions = taskService.suggestTasks(prefix, limit, username);
+        return ResponseEntity.ok(suggestions);
+    }
+    
     // Get tasks created between dates
     @GetMapping("/created-between")
     public ResponseEntity<List<TaskDto>> getTasksCreatedBetween(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String include,
             @RequestHeader("Authorization") String token) {
+        boolean withDescriptions = includesDescription(include);
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        List<TaskDto> tasks = taskService.getTasksCreatedBetween(startDate, endDate, username);
-        return ResponseEntity.ok(tasks);
+        TaskPage page = taskService.getTasksCreatedBetween(startDate, endDate, username, cursor, limit);
+        return pageResponse(page, withDescriptions, username);
     }
     
     // Get tasks ordered by priority and due date
     @GetMapping("/ordered")
-    public ResponseEntity<List<TaskDto>> getTasksOrderedByPriorityAndDueDate(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<List<TaskDto>> getTasksOrderedByPriorityAndDueDate(@RequestParam(required = false) String cursor,
+                                                                             @RequestParam(required = false) Integer limit,
+                                                                             @RequestParam(required = false) String include,
+                                                                             @RequestHeader("Authorization") String token) {
+        boolean withDescriptions = includesDescription(include);
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        List<TaskDto> tasks = taskService.getTasksOrderedByPriorityAndDueDate(username);
-        return ResponseEntity.ok(tasks);
+        TaskPage page = taskService.getTasksOrderedByPriorityAndDueDate(username, cursor, limit);
+        return pageResponse(page, withDescriptions, username);
     }
     
     // Change task status
@@ -217,6 +331,62 @@ public class TaskController {
         }
     }
     
+    // Change the status of many tasks, selected by ids or a filter, following the transition rules
+    @PatchMapping("/bulk/status")
+    public ResponseEntity<BulkResponse> changeTasksStatus(@RequestBody BulkTaskUpdateRequest request,
+                                                          @RequestHeader("Authorization") String token) {
+        checkBulkIds(request);
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        BulkResponse response = taskService.changeTasksStatus(request, username);
+        return ResponseEntity.ok(response);
+    }
+    
+    // Change the priority of many tasks, selected by ids or a filter
+    @PatchMapping("/bulk/priority")
+    public ResponseEntity<BulkResponse> changeTasksPriority(@RequestBody BulkTaskUpdateRequest request,
+                                                            @RequestHeader("Authorization") String token) {
+        checkBulkIds(request);
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        BulkResponse response = taskService.changeTasksPriority(request, username);
+        return ResponseEntity.ok(response);
+    }
+    
+    // Delete many tasks, selected by ids or a filter
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<BulkResponse> deleteTasks(@RequestBody BulkTaskUpdateRequest request,
+                                                    @RequestHeader("Authorization") String token) {
+        checkBulkIds(request);
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        BulkResponse response = taskService.deleteTasks(request, username);
+        return ResponseEntity.ok(response);
+    }
+    
+    // Export every task as a gzip-compressed CSV or NDJSON file. Rows are read through a database
+    // cursor and encoded and compressed straight into the response, so exports of any size run
+    // in constant memory.
+    @GetMapping("/export")
+    public void exportTasks(@RequestParam(defaultValue = "csv") String format,
+                            @RequestHeader("Authorization") String token,
+                            HttpServletResponse response) throws IOException {
+        String exportFormat = format.toLowerCase(Locale.ROOT);
+        if (!exportFormat.equals("csv") && !exportFormat.equals("ndjson")) {
+            throw new IllegalArgumentException("Invalid export format: " + format + " (expected csv or ndjson)");
+        }
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        
+        response.setContentType("application/gzip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("tasks." + exportFormat + ".gz").build().toString());
+        GZIPOutputStream out = new GZIPOutputStream(response.getOutputStream(), EXPORT_BUFFER_SIZE);
+        if (exportFormat.equals("csv")) {
+            writeCsv(username, out);
+        } else {
+            writeNdjson(username, out);
+        }
+        out.finish();
+        out.flush();
+    }
+    
     // Get task statistics
     @GetMapping("/statistics")
     public ResponseEntity<TaskStatistics> getTaskStatistics(@RequestHeader("Authorization") String token) {
@@ -224,4 +394,95 @@ public class TaskController {
         TaskStatistics statistics = taskService.getTaskStatistics(username);
         return ResponseEntity.ok(statistics);
     }
+    
+    private void checkBulkIds(BulkTaskUpdateRequest request) {
+        if (request.getIds() != null && request.getIds().size() > MAX_BULK_ITEMS) {
+            throw new IllegalArgumentException("Bulk requests must contain at most " + MAX_BULK_ITEMS + " task ids");
+        }
+    }
+    
+    // Only an explicit application/x-ndjson selects streaming; wildcards keep the paged JSON array
+    private boolean acceptsNdjson(String accept) {
+        if (accept == null) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .anyMatch(type -> type.equalsTypeAndSubtype(MediaType.APPLICATION_NDJSON));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Writes one JSON document per line as tasks are read from the database, so memory use
+     * does not depend on the number of tasks
+     */
+    private void streamAllTasks(String username, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream out = response.getOutputStream();
+        writeNdjson(username, out);
+        out.flush();
+    }
+    
+    private void writeNdjson(String username, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(TaskDto.class);
+        writeEachTask(username, task -> {
+            out.write(writer.writeValueAsBytes(task));
+            out.write('\n');
+        });
+    }
+    
+    private void writeCsv(String username, OutputStream out) throws IOException {
+        Writer text = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+        CsvTaskRecordWriter csv = new CsvTaskRecordWriter(text);
+        csv.writeHeader();
+        writeEachTask(username, csv::write);
+        text.flush();
+    }
+    
+    // Runs an action that writes to the response for each task, rethrowing its IOException
+    private void writeEachTask(String username, TaskWriter action) throws IOException {
+        try {
+            taskService.forEachTask(username, task -> {
+                try {
+                    action.write(task);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+    
+    @FunctionalInterface
+    private interface TaskWriter {
+        void write(TaskDto task) throws IOException;
+    }
+    
+    // The include parameter of the list endpoints; the only value accepted is "description"
+    private boolean includesDescription(String include) {
+        if (include == null) {
+            return false;
+        }
+        if (!include.equalsIgnoreCase(INCLUDE_DESCRIPTION)) {
+            throw new IllegalArgumentException("Invalid include: " + include + " (expected " + INCLUDE_DESCRIPTION + ")");
+        }
+        return true;
+    }
+    
+    // Descriptions are only read when the client asked for them; list queries leave them null
+    private ResponseEntity<List<TaskDto>> pageResponse(TaskPage page, boolean withDescriptions, String username) {
+        return pageResponse(withDescriptions ? taskService.includeDescriptions(page, username) : page);
+    }
+    
+    private ResponseEntity<List<TaskDto>> pageResponse(TaskPage page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getTasks());
+    }
 }
@@ -0,0 +1,73 @@
+package com.akertesz.task_manager_api.controller;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.akertesz.task_manager_api.dto.ImportJobDto;
+import com.akertesz.task_manager_api.model.ImportFormat;
+import com.akertesz.task_manager_api.service.TaskImportService;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@RestController
+@RequestMapping("/api/tasks/import")
+@CrossOrigin(origins = "*")
+public class TaskImportController {
+    
+    static final String TEXT_CSV_VALUE = "text/csv";
+    
+    private final TaskImportService taskImportService;
+    
+    @Autowired
+    public TaskImportController(TaskImportService taskImportService) {
+        this.taskImportService = taskImportService;
+    }
+    
+    // Import tasks from a CSV or NDJSON request body, read as it arrives rather than buffered.
+    // Pass resume={job id} with the same body to continue an import that did not complete.
+    @PostMapping(consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ImportJobDto> importTasks(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                    @RequestParam(required = false) String resume,
+                                                    @RequestHeader("Authorization") String token,
+                                                    HttpServletRequest request) throws IOException {
+        UUID resumeJobId;
+        try {
+            resumeJobId = resume != null ? UUID.fromString(resume) : null;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid import job ID format: " + resume);
+        }
+        ImportFormat format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? ImportFormat.NDJSON
+                : ImportFormat.CSV;
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        ImportJobDto job = taskImportService.importTasks(username, format, request.getInputStream(), resumeJobId);
+        return ResponseEntity.ok(job);
+    }
+    
+    // Get the progress of an import
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportJobDto> getImportJob(@PathVariable String id, @RequestHeader("Authorization") String token) {
+        try {
+            UUID uuid = UUID.fromString(id);
+            String username = SecurityContextHolder.getContext().getAuthentication().getName();
+            ImportJobDto job = taskImportService.getImportJob(uuid, username);
+            return ResponseEntity.ok(job);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid import job ID format: " + id);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.akertesz.task_manager_api.dto;
+
+import java.util.Map;
+
+// Outcome of one item of a bulk request, identified by its position in the request
+public class BulkItemResult {
+    private int index;
+    private String id;
+    private BulkItemStatus status;
+    private Map<String, String> errors;
+
+    public BulkItemResult() {}
+
+    public BulkItemResult(int index, String id, BulkItemStatus status, Map<String, String> errors) {
+        this.index = index;
+        this.id = id;
+        this.status = status;
+        this.errors = errors;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public BulkItemStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BulkItemStatus status) {
+        this.status = status;
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(Map<String, String> errors) {
+        this.errors = errors;
+    }
+}
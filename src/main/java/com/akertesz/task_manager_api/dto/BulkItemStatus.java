@@ -0,0 +1,10 @@
+package com.akertesz.task_manager_api.dto;
+
+public enum BulkItemStatus {
+    CREATED,
+    UPDATED,
+    DELETED,
+    INVALID,
+    NOT_FOUND,
+    INVALID_TRANSITION
+}
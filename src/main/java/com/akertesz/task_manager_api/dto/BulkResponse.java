@@ -0,0 +1,41 @@
+package com.akertesz.task_manager_api.dto;
+
+import java.util.List;
+
+public class BulkResponse {
+    private int succeeded;
+    private int failed;
+    private List<BulkItemResult> results;
+
+    public BulkResponse() {}
+
+    public BulkResponse(int succeeded, int failed, List<BulkItemResult> results) {
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.results = results;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<BulkItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BulkItemResult> results) {
+        this.results = results;
+    }
+}
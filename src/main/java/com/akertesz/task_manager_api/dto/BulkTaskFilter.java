@@ -0,0 +1,49 @@
+package com.akertesz.task_manager_api.dto;
+
+import java.time.LocalDateTime;
+
+import com.akertesz.task_manager_api.model.TaskPriority;
+import com.akertesz.task_manager_api.model.TaskStatus;
+
+// Selects the tasks of a bulk operation; every criterion that is set must match
+public class BulkTaskFilter {
+    private TaskStatus status;
+    private TaskPriority priority;
+    private LocalDateTime dueBefore;
+
+    public BulkTaskFilter() {}
+
+    public BulkTaskFilter(TaskStatus status, TaskPriority priority, LocalDateTime dueBefore) {
+        this.status = status;
+        this.priority = priority;
+        this.dueBefore = dueBefore;
+    }
+
+    public boolean isEmpty() {
+        return status == null && priority == null && dueBefore == null;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+    }
+
+    public LocalDateTime getDueBefore() {
+        return dueBefore;
+    }
+
+    public void setDueBefore(LocalDateTime dueBefore) {
+        this.dueBefore = dueBefore;
+    }
+}
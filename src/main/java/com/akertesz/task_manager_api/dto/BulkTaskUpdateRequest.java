@@ -0,0 +1,48 @@
+package com.akertesz.task_manager_api.dto;
+
+import java.util.List;
+
+import com.akertesz.task_manager_api.model.TaskPriority;
+import com.akertesz.task_manager_api.model.TaskStatus;
+
+// Targets tasks either by id or by filter, and carries the change to apply to them
+public class BulkTaskUpdateRequest {
+    private List<String> ids;
+    private BulkTaskFilter filter;
+    private TaskStatus status;
+    private TaskPriority priority;
+
+    public BulkTaskUpdateRequest() {}
+
+    public List<String> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<String> ids) {
+        this.ids = ids;
+    }
+
+    public BulkTaskFilter getFilter() {
+        return filter;
+    }
+
+    public void setFilter(BulkTaskFilter filter) {
+        this.filter = filter;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+    }
+}
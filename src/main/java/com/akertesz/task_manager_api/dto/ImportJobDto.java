@@ -0,0 +1,103 @@
+package com.akertesz.task_manager_api.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.akertesz.task_manager_api.model.ImportFormat;
+import com.akertesz.task_manager_api.model.ImportStatus;
+
+// State of an import job. rowErrors lists the first rejected rows of the current run, by row number.
+public class ImportJobDto {
+    private String id;
+    private ImportFormat format;
+    private ImportStatus status;
+    private long processedRows;
+    private long importedTasks;
+    private long failedRows;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private List<BulkItemResult> rowErrors;
+
+    public ImportJobDto() {}
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public ImportFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(ImportFormat format) {
+        this.format = format;
+    }
+
+    public ImportStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ImportStatus status) {
+        this.status = status;
+    }
+
+    public long getProcessedRows() {
+        return processedRows;
+    }
+
+    public void setProcessedRows(long processedRows) {
+        this.processedRows = processedRows;
+    }
+
+    public long getImportedTasks() {
+        return importedTasks;
+    }
+
+    public void setImportedTasks(long importedTasks) {
+        this.importedTasks = importedTasks;
+    }
+
+    public long getFailedRows() {
+        return failedRows;
+    }
+
+    public void setFailedRows(long failedRows) {
+        this.failedRows = failedRows;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public List<BulkItemResult> getRowErrors() {
+        return rowErrors;
+    }
+
+    public void setRowErrors(List<BulkItemResult> rowErrors) {
+        this.rowErrors = rowErrors;
+    }
+}
@@ -1,6 +1,7 @@
 package com.akertesz.task_manager_api.dto;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 import com.akertesz.task_manager_api.model.TaskPriority;
 import com.akertesz.task_manager_api.model.TaskStatus;
@@ -31,6 +32,19 @@ public class TaskDto {
         this.dueDate = dueDate;
     }
     
+    // Constructor used by JPQL constructor expressions in TaskRepository
+    public TaskDto(UUID id, String title, String description, TaskStatus status, 
+                   TaskPriority priority, LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime dueDate) {
+        this(id != null ? id.toString() : null, title, description, status, priority, createdAt, updatedAt, dueDate);
+    }
+    
+    // Constructor used by the summary constructor expression in TaskRepository (list pages),
+    // which does not read the description
+    public TaskDto(UUID id, String title, TaskStatus status, TaskPriority priority,
+                   LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime dueDate) {
+        this(id, title, null, status, priority, createdAt, updatedAt, dueDate);
+    }
+    
     // Getters and Setters
     public String getId() {
         return id;
@@ -0,0 +1,36 @@
+package com.akertesz.task_manager_api.dto;
+
+import java.util.List;
+
+public class TaskPage {
+    private List<TaskDto> tasks;
+    private String nextCursor;
+
+    public TaskPage() {}
+
+    public TaskPage(List<TaskDto> tasks, String nextCursor) {
+        this.tasks = tasks;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<TaskDto> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<TaskDto> tasks) {
+        this.tasks = tasks;
+    }
+
+    // Cursor for the following page, or null if this is the last one
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,41 @@
+package com.akertesz.task_manager_api.dto;
+
+import com.akertesz.task_manager_api.model.TaskPriority;
+
+public class TaskSuggestionDto {
+    private String id;
+    private String title;
+    private TaskPriority priority;
+
+    public TaskSuggestionDto() {}
+
+    public TaskSuggestionDto(String id, String title, TaskPriority priority) {
+        this.id = id;
+        this.title = title;
+        this.priority = priority;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+    }
+}
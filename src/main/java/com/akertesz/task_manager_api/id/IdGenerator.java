@@ -0,0 +1,11 @@
+package com.akertesz.task_manager_api.id;
+
+import java.util.UUID;
+
+/**
+ * Source of primary keys for new entities. The implementation is chosen with app.id.strategy.
+ */
+public interface IdGenerator {
+
+    UUID newId();
+}
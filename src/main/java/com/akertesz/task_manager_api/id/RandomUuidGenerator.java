@@ -0,0 +1,12 @@
+package com.akertesz.task_manager_api.id;
+
+import java.util.UUID;
+
+// Random (version 4) UUIDs, as the application used before time-ordered ids (app.id.strategy=random)
+public class RandomUuidGenerator implements IdGenerator {
+
+    @Override
+    public UUID newId() {
+        return UUID.randomUUID();
+    }
+}
@@ -0,0 +1,170 @@
+package com.akertesz.task_manager_api.importing;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.akertesz.task_manager_api.dto.CreateTaskRequest;
+import com.akertesz.task_manager_api.exception.InvalidRequestException;
+import com.akertesz.task_manager_api.model.TaskPriority;
+
+/**
+ * Reads tasks from CSV (RFC 4180). The first record is a header naming the columns: title,
+ * description, priority and dueDate are recognised in any order and case, other columns are
+ * ignored. Quoted fields may contain commas, doubled quotes and line breaks. Empty fields
+ * count as missing, and blank lines are skipped.
+ */
+public class CsvTaskRecordReader implements TaskRecordReader {
+
+    // Longest record accepted, so an unterminated quote cannot pull the rest of the file into memory
+    static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    private static final int NONE = -2;
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private int pushedBack = NONE;
+    private long number;
+
+    public CsvTaskRecordReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        List<String> header = readNonBlankRecord();
+        if (header == null) {
+            return;
+        }
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i);
+            if (i == 0 && name.startsWith("\uFEFF")) {
+                name = name.substring(1);
+            }
+            name = name.strip().toLowerCase(Locale.ROOT);
+            columns.putIfAbsent(name, i);
+        }
+        if (!columns.containsKey("title")) {
+            throw new InvalidRequestException("CSV header must contain a title column");
+        }
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        List<String> fields = readNonBlankRecord();
+        if (fields == null) {
+            return null;
+        }
+        number++;
+
+        Map<String, String> errors = new HashMap<>();
+        CreateTaskRequest request = new CreateTaskRequest(field(fields, "title"));
+        request.setDescription(field(fields, "description"));
+        String priority = field(fields, "priority");
+        if (priority != null) {
+            try {
+                request.setPriority(TaskPriority.valueOf(priority.strip().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                errors.put("priority", "Unknown priority: " + priority);
+            }
+        }
+        String dueDate = field(fields, "duedate");
+        if (dueDate != null) {
+            try {
+                request.setDueDate(LocalDateTime.parse(dueDate.strip()));
+            } catch (DateTimeParseException e) {
+                errors.put("dueDate", "Due date must be an ISO date-time: " + dueDate);
+            }
+        }
+        return errors.isEmpty() ? ImportRecord.parsed(number, request) : ImportRecord.unparsable(number, errors);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private List<String> readNonBlankRecord() throws IOException {
+        List<String> fields = readRecord();
+        while (fields != null && fields.size() == 1 && fields.get(0).isBlank()) {
+            fields = readRecord();
+        }
+        return fields;
+    }
+
+    private List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int length = 0;
+        while (true) {
+            if (c == -1) {
+                if (quoted) {
+                    throw new InvalidRequestException("Unterminated quoted field after CSV record " + number);
+                }
+                fields.add(field.toString());
+                return fields;
+            }
+            if (++length > MAX_RECORD_LENGTH) {
+                throw new InvalidRequestException("CSV record " + (number + 1) + " exceeds " + MAX_RECORD_LENGTH + " characters");
+            }
+
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        pushedBack = next;
+                    }
+                } else {
+                    field.append(ch);
+                }
+            } else if (ch == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n' || ch == '\r') {
+                if (ch == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pushedBack = next;
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append(ch);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        return reader.read();
+    }
+}
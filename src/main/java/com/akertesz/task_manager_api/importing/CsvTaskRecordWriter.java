@@ -0,0 +1,74 @@
+package com.akertesz.task_manager_api.importing;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import com.akertesz.task_manager_api.dto.TaskDto;
+
+/**
+ * Writes tasks as CSV (RFC 4180) with a header row. The columns are named the way
+ * CsvTaskRecordReader expects, so an export can be imported again; id, status and the
+ * timestamps are ignored on import. Fields are quoted only when they contain a comma, a
+ * quote or a line break.
+ */
+public class CsvTaskRecordWriter {
+
+    private static final String[] COLUMNS = {
+        "id", "title", "description", "status", "priority", "createdAt", "updatedAt", "dueDate"
+    };
+
+    private final Writer writer;
+
+    public CsvTaskRecordWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public void writeHeader() throws IOException {
+        writeRecord(COLUMNS);
+    }
+
+    public void write(TaskDto task) throws IOException {
+        writeRecord(new String[] {
+            task.getId(),
+            task.getTitle(),
+            task.getDescription(),
+            text(task.getStatus()),
+            text(task.getPriority()),
+            text(task.getCreatedAt()),
+            text(task.getUpdatedAt()),
+            text(task.getDueDate())
+        });
+    }
+
+    private void writeRecord(String[] fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(fields[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char ch = value.charAt(i);
+            quote = ch == ',' || ch == '"' || ch == '\n' || ch == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String text(Object value) {
+        return value == null ? null : value.toString();
+    }
+}
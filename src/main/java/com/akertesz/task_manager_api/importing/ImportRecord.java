@@ -0,0 +1,20 @@
+package com.akertesz.task_manager_api.importing;
+
+import java.util.Map;
+
+import com.akertesz.task_manager_api.dto.CreateTaskRequest;
+
+/**
+ * One record of an import file, numbered from 1 in input order. Records that could not be
+ * parsed carry field errors instead of a request.
+ */
+public record ImportRecord(long number, CreateTaskRequest request, Map<String, String> errors) {
+
+    public static ImportRecord parsed(long number, CreateTaskRequest request) {
+        return new ImportRecord(number, request, null);
+    }
+
+    public static ImportRecord unparsable(long number, Map<String, String> errors) {
+        return new ImportRecord(number, null, errors);
+    }
+}
@@ -0,0 +1,49 @@
+package com.akertesz.task_manager_api.importing;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.Map;
+
+import com.akertesz.task_manager_api.dto.CreateTaskRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Reads tasks from newline-delimited JSON: one CreateTaskRequest object per line, blank lines
+ * ignored. A line that is not a valid object becomes an unparsable record rather than ending
+ * the import.
+ */
+public class NdjsonTaskRecordReader implements TaskRecordReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private long number;
+
+    public NdjsonTaskRecordReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectReader = objectMapper.readerFor(CreateTaskRequest.class);
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        String line = reader.readLine();
+        while (line != null && line.isBlank()) {
+            line = reader.readLine();
+        }
+        if (line == null) {
+            return null;
+        }
+        number++;
+        try {
+            return ImportRecord.parsed(number, objectReader.readValue(line));
+        } catch (JsonProcessingException e) {
+            return ImportRecord.unparsable(number, Map.of("record", "Malformed JSON: " + e.getOriginalMessage()));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,73 @@
+package com.akertesz.task_manager_api.importing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import com.akertesz.task_manager_api.config.ImportProperties;
+import com.akertesz.task_manager_api.dto.BulkItemResult;
+import com.akertesz.task_manager_api.dto.ImportJobDto;
+import com.akertesz.task_manager_api.model.ImportFormat;
+import com.akertesz.task_manager_api.service.TaskImportService;
+
+/**
+ * Command-line import, for loads too large to send over HTTP:
+ *
+ *   java -jar task-manager-api.jar --spring.main.web-application-type=none \
+ *       --app.import.file=tasks.csv --app.import.user=alice [--app.import.resume=<job id>]
+ *
+ * The format follows the file extension (.csv, or .ndjson / .jsonl). The application exits
+ * when the import ends, with status 1 if it failed.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.import", name = "file")
+public class TaskImportRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskImportRunner.class);
+
+    private final TaskImportService taskImportService;
+    private final ImportProperties properties;
+    private final ConfigurableApplicationContext context;
+
+    public TaskImportRunner(TaskImportService taskImportService, ImportProperties properties,
+                            ConfigurableApplicationContext context) {
+        this.taskImportService = taskImportService;
+        this.properties = properties;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Path file = Path.of(properties.getFile());
+        int exitCode;
+        try (InputStream input = Files.newInputStream(file)) {
+            ImportJobDto job = taskImportService.importTasks(properties.getUser(), formatOf(file), input,
+                    properties.getResume());
+            for (BulkItemResult rejected : job.getRowErrors()) {
+                log.warn("Record {} rejected: {}", rejected.getIndex(), rejected.getErrors());
+            }
+            exitCode = 0;
+        } catch (IOException | RuntimeException e) {
+            log.error("Import of {} failed", file, e);
+            exitCode = 1;
+        }
+        int status = exitCode;
+        System.exit(SpringApplication.exit(context, () -> status));
+    }
+
+    private static ImportFormat formatOf(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".ndjson") || name.endsWith(".jsonl") ? ImportFormat.NDJSON : ImportFormat.CSV;
+    }
+}
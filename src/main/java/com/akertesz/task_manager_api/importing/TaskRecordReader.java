@@ -0,0 +1,28 @@
+package com.akertesz.task_manager_api.importing;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import com.akertesz.task_manager_api.model.ImportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads import records one at a time, so only the current record is held in memory.
+ */
+public interface TaskRecordReader extends Closeable {
+
+    // The next record, or null at the end of the input
+    ImportRecord next() throws IOException;
+
+    static TaskRecordReader open(ImportFormat format, InputStream input, ObjectMapper objectMapper) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return switch (format) {
+            case CSV -> new CsvTaskRecordReader(reader);
+            case NDJSON -> new NdjsonTaskRecordReader(reader, objectMapper);
+        };
+    }
+}
@@ -0,0 +1,247 @@
+package com.akertesz.task_manager_api.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Converts UUID key columns stored as text (char(36), varchar(36)) or as a native UUID type
+ * (uniqueidentifier on SQL Server, uuid on H2) to binary(16) in big-endian byte order as
+ * mapped by the entities.
+ *
+ * Only databases created before migrations were introduced need this; V1 already creates
+ * binary(16) columns, so on those every column is skipped. Foreign keys to app_user are
+ * dropped for the conversion and recreated afterwards. Tables added later, such as
+ * import_jobs (V2.1), are created after this conversion with binary(16) keys. On MySQL the
+ * DDL is not transactional: if the migration fails, restore from backup rather than
+ * repairing and rerunning it.
+ */
+@Component
+public class V2__ConvertUuidColumnsToBinary extends BaseJavaMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(V2__ConvertUuidColumnsToBinary.class);
+
+    private static final List<UuidColumn> COLUMNS = List.of(
+            new UuidColumn("app_user", "id"),
+            new UuidColumn("tasks", "id"),
+            new UuidColumn("tasks", "user_id"));
+
+    private static final List<ForeignKey> USER_FOREIGN_KEYS = List.of(
+            new ForeignKey("tasks", "fk_tasks_user"));
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        Vendor vendor = Vendor.of(connection.getMetaData().getDatabaseProductName());
+        if (vendor == null) {
+            return;
+        }
+
+        List<UuidColumn> pending = new ArrayList<>();
+        for (UuidColumn column : COLUMNS) {
+            String type = dataType(connection, vendor, column);
+            if (type != null && vendor.convertedTypes.contains(type.toLowerCase(Locale.ROOT))) {
+                pending.add(column);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        log.info("Converting {} UUID columns to binary(16): {}", pending.size(), pending);
+        try (Statement statement = connection.createStatement()) {
+            List<ForeignKey> droppedKeys = dropUserForeignKeys(connection, statement, vendor);
+            for (UuidColumn column : pending) {
+                switch (vendor) {
+                    case MYSQL -> convertMySql(statement, column);
+                    case SQLSERVER -> convertSqlServer(connection, statement, column);
+                    case H2 -> convertH2(statement, column);
+                }
+            }
+            for (ForeignKey key : droppedKeys) {
+                statement.execute("alter table " + key.table() + " add constraint " + key.name()
+                        + " foreign key (user_id) references app_user (id)");
+            }
+        }
+    }
+
+    // Data type of the column, or null when the table predates the column's entity
+    private static String dataType(Connection connection, Vendor vendor, UuidColumn column) throws SQLException {
+        // H2 keeps unquoted names in upper case
+        String sql = "select DATA_TYPE from INFORMATION_SCHEMA.COLUMNS where " + vendor.schemaFilter
+                + " and upper(TABLE_NAME) = upper(?) and upper(COLUMN_NAME) = upper(?)";
+        try (PreparedStatement query = connection.prepareStatement(sql)) {
+            query.setString(1, column.table());
+            query.setString(2, column.name());
+            try (ResultSet rows = query.executeQuery()) {
+                return rows.next() ? rows.getString(1) : null;
+            }
+        }
+    }
+
+    // Drops the foreign keys to app_user; returns the ones to recreate
+    private static List<ForeignKey> dropUserForeignKeys(Connection connection, Statement statement, Vendor vendor)
+            throws SQLException {
+        String sql = switch (vendor) {
+            case MYSQL -> "select CONSTRAINT_NAME, TABLE_NAME from INFORMATION_SCHEMA.REFERENTIAL_CONSTRAINTS"
+                    + " where CONSTRAINT_SCHEMA = DATABASE() and REFERENCED_TABLE_NAME = 'app_user'";
+            case SQLSERVER -> "select fk.name, t.name from sys.foreign_keys fk join sys.tables t on t.object_id = fk.parent_object_id"
+                    + " where fk.referenced_object_id = object_id('app_user')";
+            case H2 -> "select rc.CONSTRAINT_NAME, fk.TABLE_NAME from INFORMATION_SCHEMA.REFERENTIAL_CONSTRAINTS rc"
+                    + " join INFORMATION_SCHEMA.TABLE_CONSTRAINTS fk on fk.CONSTRAINT_SCHEMA = rc.CONSTRAINT_SCHEMA"
+                    + " and fk.CONSTRAINT_NAME = rc.CONSTRAINT_NAME"
+                    + " join INFORMATION_SCHEMA.TABLE_CONSTRAINTS pk on pk.CONSTRAINT_SCHEMA = rc.UNIQUE_CONSTRAINT_SCHEMA"
+                    + " and pk.CONSTRAINT_NAME = rc.UNIQUE_CONSTRAINT_NAME"
+                    + " where rc.CONSTRAINT_SCHEMA = SCHEMA() and pk.TABLE_NAME = 'APP_USER'";
+        };
+        List<String[]> existing = new ArrayList<>();
+        try (Statement query = connection.createStatement(); ResultSet rows = query.executeQuery(sql)) {
+            while (rows.next()) {
+                existing.add(new String[] { rows.getString(1), rows.getString(2) });
+            }
+        }
+
+        List<ForeignKey> dropped = new ArrayList<>();
+        for (String[] key : existing) {
+            statement.execute("alter table " + key[1] + (vendor == Vendor.MYSQL ? " drop foreign key " : " drop constraint ")
+                    + key[0]);
+            USER_FOREIGN_KEYS.stream()
+                    .filter(known -> known.table().equalsIgnoreCase(key[1]) && !dropped.contains(known))
+                    .forEach(dropped::add);
+        }
+        return dropped;
+    }
+
+    /**
+     * Rewrites the text in place: as varbinary the column keeps its primary key and indexes,
+     * the hex digits are replaced by the 16 bytes they spell, and the column is narrowed.
+     */
+    private static void convertMySql(Statement statement, UuidColumn column) throws SQLException {
+        String table = column.table();
+        String name = column.name();
+        statement.execute("alter table " + table + " modify " + name + " varbinary(36) not null");
+        statement.execute("update " + table + " set " + name + " = unhex(replace(" + name + ", '-', ''))");
+        statement.execute("alter table " + table + " modify " + name + " binary(16) not null");
+    }
+
+    /**
+     * SQL Server cannot alter an indexed column, and casting a uniqueidentifier to binary
+     * reverses its first three groups, so the value goes through its text form into a new
+     * column, and the primary key and indexes on the column are rebuilt around it.
+     */
+    private static void convertSqlServer(Connection connection, Statement statement, UuidColumn column)
+            throws SQLException {
+        String table = column.table();
+        String name = column.name();
+        List<IndexDefinition> indexes = sqlServerIndexes(connection, column);
+        for (IndexDefinition index : indexes) {
+            statement.execute(index.primaryKey()
+                    ? "alter table " + table + " drop constraint " + index.name()
+                    : "drop index " + index.name() + " on " + table);
+        }
+
+        String converted = name + "_binary";
+        statement.execute("alter table " + table + " add " + converted + " binary(16) null");
+        statement.execute("update " + table + " set " + converted
+                + " = convert(binary(16), replace(convert(char(36), " + name + "), '-', ''), 2)");
+        statement.execute("alter table " + table + " drop column " + name);
+        statement.execute("exec sp_rename '" + table + "." + converted + "', '" + name + "', 'COLUMN'");
+        statement.execute("alter table " + table + " alter column " + name + " binary(16) not null");
+
+        for (IndexDefinition index : indexes) {
+            String columns = String.join(", ", index.columns());
+            statement.execute(index.primaryKey()
+                    ? "alter table " + table + " add constraint " + index.name() + " primary key (" + columns + ")"
+                    : "create " + (index.unique() ? "unique " : "") + "index " + index.name()
+                            + " on " + table + " (" + columns + ")");
+        }
+    }
+
+    // Primary key and indexes that contain the column, with all their key columns in order
+    private static List<IndexDefinition> sqlServerIndexes(Connection connection, UuidColumn column) throws SQLException {
+        String sql = "select i.name, i.is_primary_key, i.is_unique, c.name from sys.indexes i"
+                + " join sys.index_columns ic on ic.object_id = i.object_id and ic.index_id = i.index_id"
+                + " join sys.columns c on c.object_id = ic.object_id and c.column_id = ic.column_id"
+                + " where i.object_id = object_id(?) and ic.is_included_column = 0"
+                + " and i.index_id in (select ic2.index_id from sys.index_columns ic2"
+                + "   join sys.columns c2 on c2.object_id = ic2.object_id and c2.column_id = ic2.column_id"
+                + "   where ic2.object_id = i.object_id and c2.name = ?)"
+                + " order by i.name, ic.key_ordinal";
+        List<IndexDefinition> indexes = new ArrayList<>();
+        try (PreparedStatement query = connection.prepareStatement(sql)) {
+            query.setString(1, column.table());
+            query.setString(2, column.name());
+            try (ResultSet rows = query.executeQuery()) {
+                while (rows.next()) {
+                    String name = rows.getString(1);
+                    if (indexes.isEmpty() || !indexes.get(indexes.size() - 1).name().equals(name)) {
+                        indexes.add(new IndexDefinition(name, rows.getBoolean(2), rows.getBoolean(3), new ArrayList<>()));
+                    }
+                    indexes.get(indexes.size() - 1).columns().add(rows.getString(4));
+                }
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * H2 parses the text form into uuid and casts uuid to binary(16) in big-endian order, and
+     * keeps the column's primary key and indexes across both changes.
+     */
+    private static void convertH2(Statement statement, UuidColumn column) throws SQLException {
+        String table = column.table();
+        String name = column.name();
+        statement.execute("alter table " + table + " alter column " + name + " set data type uuid");
+        statement.execute("alter table " + table + " alter column " + name + " set data type binary(16)");
+    }
+
+    private enum Vendor {
+        MYSQL("TABLE_SCHEMA = DATABASE()", Set.of("char", "varchar")),
+        SQLSERVER("TABLE_SCHEMA = SCHEMA_NAME()", Set.of("uniqueidentifier", "char", "varchar", "nchar", "nvarchar")),
+        H2("TABLE_SCHEMA = SCHEMA()", Set.of("uuid", "character", "character varying"));
+
+        private final String schemaFilter;
+        private final Set<String> convertedTypes;
+
+        Vendor(String schemaFilter, Set<String> convertedTypes) {
+            this.schemaFilter = schemaFilter;
+            this.convertedTypes = convertedTypes;
+        }
+
+        // The vendor of the database product, or null for one this migration does not convert
+        private static Vendor of(String productName) {
+            String product = productName.toLowerCase(Locale.ROOT);
+            if (product.contains("microsoft")) {
+                return SQLSERVER;
+            }
+            if (product.contains("mysql")) {
+                return MYSQL;
+            }
+            return product.contains("h2") ? H2 : null;
+        }
+    }
+
+    private record UuidColumn(String table, String name) {
+
+        @Override
+        public String toString() {
+            return table + "." + name;
+        }
+    }
+
+    private record ForeignKey(String table, String name) {}
+
+    private record IndexDefinition(String name, boolean primaryKey, boolean unique, List<String> columns) {}
+}
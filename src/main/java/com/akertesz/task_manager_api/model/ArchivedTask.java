@@ -0,0 +1,118 @@
+package com.akertesz.task_manager_api.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+// A task moved out of the tasks table by the archive job: completed long ago or soft deleted.
+// Rows are only written by the job (insert-select in TaskRepositoryCustomImpl.archive), so the
+// entity has no setters and no version.
+@Entity
+@Table(name = "archived_tasks")
+public class ArchivedTask {
+    
+    // binary(16) on every database, see Task.id
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16)
+    private UUID id;
+    
+    // Owner id without a foreign key, so archived rows never hold up changes to app_user
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "user_id", nullable = false, length = 16)
+    private UUID userId;
+    
+    @Column(nullable = false, length = 255)
+    private String title;
+    
+    // Lazy (bytecode enhancement): archive listings read it through the DTO queries, so only
+    // code that asks for it on a loaded entity pays for the wide column
+    @Basic(fetch = FetchType.LAZY)
+    @Column(length = 1000)
+    private String description;
+    
+    @Convert(converter = TaskStatusConverter.class)
+    @Column(nullable = false)
+    private TaskStatus status;
+    
+    @Convert(converter = TaskPriorityConverter.class)
+    @Column(nullable = false)
+    private TaskPriority priority;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @Column(name = "due_date")
+    private LocalDateTime dueDate;
+    
+    // Soft deleted before it was archived; such tasks are kept for retention but never listed
+    @Column(nullable = false)
+    private boolean deleted;
+    
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+    
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+    
+    public UUID getId() {
+        return id;
+    }
+    
+    public UUID getUserId() {
+        return userId;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public TaskStatus getStatus() {
+        return status;
+    }
+    
+    public TaskPriority getPriority() {
+        return priority;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public LocalDateTime getDueDate() {
+        return dueDate;
+    }
+    
+    public boolean isDeleted() {
+        return deleted;
+    }
+    
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+    
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
@@ -0,0 +1,6 @@
+package com.akertesz.task_manager_api.model;
+
+public enum ImportFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,149 @@
+package com.akertesz.task_manager_api.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+// Progress of a task import. processedRows is the checkpoint: the number of input records
+// whose tasks are committed, advanced in the same transaction as each batch of inserts.
+@Entity
+@Table(name = "import_jobs")
+public class ImportJob {
+    // binary(16) on every database, see Task.id
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16)
+    private UUID id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ImportFormat format;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ImportStatus status;
+    
+    @Column(name = "processed_rows", nullable = false)
+    private long processedRows;
+    
+    @Column(name = "imported_tasks", nullable = false)
+    private long importedTasks;
+    
+    @Column(name = "failed_rows", nullable = false)
+    private long failedRows;
+    
+    @Column(length = 1000)
+    private String error;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    public ImportJob() {}
+    
+    public ImportJob(UUID id, User user, ImportFormat format) {
+        this.id = id;
+        this.user = user;
+        this.format = format;
+        this.status = ImportStatus.RUNNING;
+        this.createdAt = LocalDateTime.now();
+    }
+    
+    public UUID getId() {
+        return id;
+    }
+    
+    public void setId(UUID id) {
+        this.id = id;
+    }
+    
+    public User getUser() {
+        return user;
+    }
+    
+    public void setUser(User user) {
+        this.user = user;
+    }
+    
+    public ImportFormat getFormat() {
+        return format;
+    }
+    
+    public void setFormat(ImportFormat format) {
+        this.format = format;
+    }
+    
+    public ImportStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(ImportStatus status) {
+        this.status = status;
+    }
+    
+    public long getProcessedRows() {
+        return processedRows;
+    }
+    
+    public void setProcessedRows(long processedRows) {
+        this.processedRows = processedRows;
+    }
+    
+    public long getImportedTasks() {
+        return importedTasks;
+    }
+    
+    public void setImportedTasks(long importedTasks) {
+        this.importedTasks = importedTasks;
+    }
+    
+    public long getFailedRows() {
+        return failedRows;
+    }
+    
+    public void setFailedRows(long failedRows) {
+        this.failedRows = failedRows;
+    }
+    
+    public String getError() {
+        return error;
+    }
+    
+    public void setError(String error) {
+        this.error = error;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
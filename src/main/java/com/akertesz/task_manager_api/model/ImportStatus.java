@@ -0,0 +1,7 @@
+package com.akertesz.task_manager_api.model;
+
+public enum ImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -3,38 +3,62 @@ package com.akertesz.task_manager_api.model;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 
+// Indexes are created by the migrations (db/migration/<vendor>/V3__task_query_indexes.sql),
+// one per TaskRepository access path
 @Entity
 @Table(name = "tasks")
 public class Task {
     
+    // Stored as binary(16) in big-endian order on every database, so ids (and the user_id
+    // foreign keys that copy this mapping) take 16 bytes in each index entry and sort in
+    // UUID order. SQL Server's uniqueidentifier would sort on the last six bytes first,
+    // scattering time-ordered ids across the clustered index.
     @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16)
     private UUID id;
     
     @Column(nullable = false, length = 255)
     private String title;
     
-    @Column(length = 1000)
-    private String description;
+    // Kept in task_descriptions (see TaskDescription) so the tasks rows that list queries scan
+    // stay narrow. Mapped on the task's own id column, so loading a task only creates a proxy
+    // and the description row is read when getDescription() is called.
+    @OneToOne(fetch = FetchType.LAZY, optional = false, cascade = CascadeType.ALL)
+    @JoinColumn(name = "id", insertable = false, updatable = false)
+    private TaskDescription taskDescription = new TaskDescription(null);
     
-    @Enumerated(EnumType.STRING)
-    @Column(nullable = false, length = 20)
+    // Status and priority are stored as smallint codes (see the enums), so every row and
+    // index entry carries two bytes per column and filters compare integers
+    @Convert(converter = TaskStatusConverter.class)
+    @Column(nullable = false)
     private TaskStatus status;
     
-    @Enumerated(EnumType.STRING)
-    @Column(nullable = false, length = 20)
+    @Convert(converter = TaskPriorityConverter.class)
+    @Column(nullable = false)
     private TaskPriority priority;
     
+    // Derived from priority so ordered reads can sort on an indexed numeric column
+    @Column(name = "priority_rank", nullable = false)
+    private int priorityRank;
+    
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
     
@@ -44,13 +68,18 @@ public class Task {
     @Column(name = "due_date")
     private LocalDateTime dueDate;
     
-    @ManyToOne
+    // Lazy: task reads never need the owner, and the owner filter is applied on user_id
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
     
     @Column(name = "is_deleted", nullable = false)
     private boolean isDeleted = false;
     
+    // When the task was soft deleted; drives archiving of deleted tasks
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+    
     @Version
     @Column(nullable = false)
     private Long version = 0L;
@@ -67,6 +96,7 @@ public class Task {
     
     public void setId(UUID id) {
         this.id = id;
+        taskDescription.setTaskId(id);
     }
     
     public String getTitle() {
@@ -78,11 +108,11 @@ public class Task {
     }
     
     public String getDescription() {
-        return description;
+        return taskDescription.getDescription();
     }
     
     public void setDescription(String description) {
-        this.description = description;
+        taskDescription.setDescription(description);
     }
     
     public TaskStatus getStatus() {
@@ -99,6 +129,11 @@ public class Task {
     
     public void setPriority(TaskPriority priority) {
         this.priority = priority;
+        this.priorityRank = priority != null ? priority.getRank() : 0;
+    }
+    
+    public int getPriorityRank() {
+        return priorityRank;
     }
     
     public LocalDateTime getCreatedAt() {
@@ -141,6 +176,14 @@ public class Task {
         this.isDeleted = deleted;
     }
     
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+    
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+    
     public Long getVersion() {
         return version;
     }
@@ -149,6 +192,13 @@ public class Task {
         this.version = version;
     }
     
+    @PrePersist
+    protected void onCreate() {
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+    
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = LocalDateTime.now();
@@ -0,0 +1,52 @@
+package com.akertesz.task_manager_api.model;
+
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+// The description of a task, kept out of the tasks table so list scans read narrow rows.
+// One row per task under the task's id, written and read through Task only. There is no
+// foreign key (Hibernate inserts the description before its task), so bulk deletes of tasks
+// delete the matching rows themselves (TaskRepository.purgeByIdIn, TaskRepositoryCustomImpl.archive).
+@Entity
+@Table(name = "task_descriptions")
+public class TaskDescription {
+    
+    // binary(16) like Task.id
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "task_id", length = 16)
+    private UUID taskId;
+    
+    @Column(length = 1000)
+    private String description;
+    
+    protected TaskDescription() {
+    }
+    
+    TaskDescription(UUID taskId) {
+        this.taskId = taskId;
+    }
+    
+    public UUID getTaskId() {
+        return taskId;
+    }
+    
+    public void setTaskId(UUID taskId) {
+        this.taskId = taskId;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public void setDescription(String description) {
+        this.description = description;
+    }
+}
@@ -1,8 +1,36 @@
 package com.akertesz.task_manager_api.model;
 
 public enum TaskPriority {
-    LOW,
-    MEDIUM,
-    HIGH,
-    URGENT
+    LOW(1, 4),
+    MEDIUM(2, 3),
+    HIGH(3, 2),
+    URGENT(4, 1);
+    
+    // Code persisted in tasks.priority (see TaskPriorityConverter); never reuse or renumber a code
+    private final short code;
+    
+    // Sort rank persisted in tasks.priority_rank, 1 = most urgent
+    private final int rank;
+    
+    TaskPriority(int code, int rank) {
+        this.code = (short) code;
+        this.rank = rank;
+    }
+    
+    public short getCode() {
+        return code;
+    }
+    
+    public int getRank() {
+        return rank;
+    }
+    
+    public static TaskPriority fromCode(short code) {
+        for (TaskPriority priority : values()) {
+            if (priority.code == code) {
+                return priority;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task priority code: " + code);
+    }
 }
@@ -1,8 +1,28 @@
 package com.akertesz.task_manager_api.model;
 
 public enum TaskStatus {
-    PENDING,
-    IN_PROGRESS,
-    COMPLETED,
-    CANCELLED
+    PENDING(1),
+    IN_PROGRESS(2),
+    COMPLETED(3),
+    CANCELLED(4);
+    
+    // Code persisted in tasks.status (see TaskStatusConverter); never reuse or renumber a code
+    private final short code;
+    
+    TaskStatus(int code) {
+        this.code = (short) code;
+    }
+    
+    public short getCode() {
+        return code;
+    }
+    
+    public static TaskStatus fromCode(short code) {
+        for (TaskStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task status code: " + code);
+    }
 }
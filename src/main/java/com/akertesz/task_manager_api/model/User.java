@@ -4,6 +4,9 @@ import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -21,7 +24,10 @@ import jakarta.persistence.Version;
 @Entity
 @Table(name = "app_user")
 public class User implements UserDetails {
+    // binary(16) on every database, see Task.id
     @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16)
     private UUID id;
     
     @Column(unique = true, nullable = false, length = 100)
@@ -49,7 +55,11 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private Long version;
 
+    // Unbounded; service code reads tasks through TaskRepository instead. When the collection
+    // is touched anyway, the tasks of up to 50 users with uninitialized collections in the
+    // session are loaded by one IN-list query instead of one query per user.
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
+    @BatchSize(size = 50)
     private List<Task> tasks;
 
     public UUID getId() {
@@ -143,8 +153,9 @@ public class User implements UserDetails {
         this.tasks = tasks;
     }
 
+    // Leaves out tasks: printing a user must not load (or fail to load) the collection
     @Override
     public String toString() {
-        return "User [id=" + id + ", username=" + username + ", email=" + email + ", enabled=" + enabled + ", accountNonExpired=" + accountNonExpired + ", accountNonLocked=" + accountNonLocked + ", credentialsNonExpired=" + credentialsNonExpired + ", version=" + version + ", tasks=" + tasks + "]";
+        return "User [id=" + id + ", username=" + username + ", email=" + email + ", enabled=" + enabled + ", accountNonExpired=" + accountNonExpired + ", accountNonLocked=" + accountNonLocked + ", credentialsNonExpired=" + credentialsNonExpired + ", version=" + version + "]";
     }
 }
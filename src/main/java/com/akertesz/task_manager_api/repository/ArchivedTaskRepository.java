@@ -0,0 +1,45 @@
+package com.akertesz.task_manager_api.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.akertesz.task_manager_api.dto.TaskDto;
+import com.akertesz.task_manager_api.model.ArchivedTask;
+
+// Read side of the archive; rows are written by TaskRepository.archive. Tasks that were soft
+// deleted before archiving are kept until the purge job removes them and are never returned.
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, UUID> {
+    
+    String ARCHIVED_DTO_SELECT = "SELECT new com.akertesz.task_manager_api.dto.TaskDto(" +
+            "a.id, a.title, a.description, a.status, a.priority, a.createdAt, a.updatedAt, a.dueDate) " +
+            "FROM ArchivedTask a ";
+    
+    // Keyset page of a user's archived tasks as DTOs, in id order
+    @Query(ARCHIVED_DTO_SELECT + "WHERE a.userId = :userId AND a.deleted = false AND a.id > :afterId ORDER BY a.id ASC")
+    List<TaskDto> findDtoPageByUserId(@Param("userId") UUID userId, @Param("afterId") UUID afterId, Limit limit);
+    
+    @Query(ARCHIVED_DTO_SELECT + "WHERE a.id = :id AND a.userId = :userId AND a.deleted = false")
+    Optional<TaskDto> findDtoByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
+    
+    // Next archived soft-deleted tasks to purge after afterId, in id order: deleted before deletedBefore
+    @Query("SELECT a.id FROM ArchivedTask a WHERE a.deleted = true AND a.id > :afterId " +
+           "AND COALESCE(a.deletedAt, a.archivedAt) < :deletedBefore ORDER BY a.id ASC")
+    List<UUID> findPurgeableIds(@Param("afterId") UUID afterId, @Param("deletedBefore") LocalDateTime deletedBefore,
+                                Limit limit);
+    
+    // Hard delete archived soft-deleted tasks
+    @Modifying
+    @Query("DELETE FROM ArchivedTask a WHERE a.id IN :ids AND a.deleted = true")
+    int purgeByIdIn(@Param("ids") Collection<UUID> ids);
+}
@@ -0,0 +1,38 @@
+package com.akertesz.task_manager_api.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.akertesz.task_manager_api.model.ImportJob;
+import com.akertesz.task_manager_api.model.ImportStatus;
+import com.akertesz.task_manager_api.model.User;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, UUID> {
+    
+    Optional<ImportJob> findByIdAndUser(UUID id, User user);
+    
+    // Advance the checkpoint from fromRows to toRows. Runs in the transaction of the batch it
+    // records; matches nothing if another run already moved the checkpoint.
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.processedRows = :toRows, j.importedTasks = j.importedTasks + :imported, " +
+           "j.failedRows = j.failedRows + :failed, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.processedRows = :fromRows")
+    int recordProgress(@Param("id") UUID id, @Param("fromRows") long fromRows, @Param("toRows") long toRows,
+                       @Param("imported") long imported, @Param("failed") long failed,
+                       @Param("now") LocalDateTime now);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.status = :status, j.error = :error, j.updatedAt = :now WHERE j.id = :id")
+    void finish(@Param("id") UUID id, @Param("status") ImportStatus status, @Param("error") String error,
+                @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,7 @@
+package com.akertesz.task_manager_api.repository;
+
+import java.util.UUID;
+
+// A task selected for archiving, with what the archive job needs to report it
+public record TaskArchiveRow(UUID id, UUID userId, boolean deleted) {
+}
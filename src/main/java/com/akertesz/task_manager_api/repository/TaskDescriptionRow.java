@@ -0,0 +1,7 @@
+package com.akertesz.task_manager_api.repository;
+
+import java.util.UUID;
+
+// Id and description of a task, read to fill in the descriptions of a page of summaries
+public record TaskDescriptionRow(UUID id, String description) {
+}
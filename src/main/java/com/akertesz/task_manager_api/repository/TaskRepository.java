@@ -1,82 +1,315 @@
 package com.akertesz.task_manager_api.repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.akertesz.task_manager_api.dto.TaskDto;
 import com.akertesz.task_manager_api.model.Task;
 import com.akertesz.task_manager_api.model.TaskPriority;
 import com.akertesz.task_manager_api.model.TaskStatus;
 import com.akertesz.task_manager_api.model.User;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskRepositoryCustom {
+    
+    // Constructor expressions shared by the list queries below: rows are read straight into
+    // TaskDto, so list reads never hydrate, snapshot or track Task entities.
+    // TASK_DTO_SELECT joins in the description (task_descriptions) for reads that need it;
+    // the keyset pages use TASK_SUMMARY_SELECT, which leaves it null and reads tasks only,
+    // unless the caller asks for descriptions (findDescriptionRowsByIdInAndUser).
+    String TASK_DTO_SELECT = "SELECT new com.akertesz.task_manager_api.dto.TaskDto(" +
+            "t.id, t.title, d.description, t.status, t.priority, t.createdAt, t.updatedAt, t.dueDate) " +
+            "FROM Task t LEFT JOIN t.taskDescription d ";
+    
+    String TASK_SUMMARY_SELECT = "SELECT new com.akertesz.task_manager_api.dto.TaskDto(" +
+            "t.id, t.title, t.status, t.priority, t.createdAt, t.updatedAt, t.dueDate) " +
+            "FROM Task t ";
     
     // Soft delete methods
     long countByUserAndIsDeletedFalse(User user);
-    List<Task> findByUserAndIsDeletedFalse(User user);
     
     // Find task by ID and user (not deleted)
     Optional<Task> findByIdAndUserAndIsDeletedFalse(UUID id, User user);
     
-    // Find tasks by status and user (not deleted)
-    List<Task> findByStatusAndUserAndIsDeletedFalse(TaskStatus status, User user);
-    
     // Find tasks by priority and user (not deleted)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Task> findByPriorityAndUserAndIsDeletedFalse(TaskPriority priority, User user);
     
+    // Count tasks by priority for a user (not deleted)
+    long countByPriorityAndUserAndIsDeletedFalse(TaskPriority priority, User user);
+    
     // Find tasks by status and priority and user (not deleted)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Task> findByStatusAndPriorityAndUserAndIsDeletedFalse(TaskStatus status, TaskPriority priority, User user);
     
-    // Find tasks due before a specific date and user (not deleted)
-    List<Task> findByDueDateBeforeAndUserAndIsDeletedFalse(LocalDateTime date, User user);
+    // Overdue predicate: past due and still open. COMPLETED and CANCELLED tasks are never overdue.
+    // Written as an IN list on status followed by a range on due_date so it is served by
+    // idx_tasks_user_deleted_status_due as a couple of index range scans.
+    String OVERDUE_PREDICATE = "WHERE t.user = :user AND t.isDeleted = false " +
+            "AND t.status IN (com.akertesz.task_manager_api.model.TaskStatus.PENDING, " +
+            "com.akertesz.task_manager_api.model.TaskStatus.IN_PROGRESS) " +
+            "AND t.dueDate < :now ";
     
     // Find overdue tasks for a user (not deleted)
-    @Query("SELECT t FROM Task t WHERE t.dueDate < :now AND t.status != 'COMPLETED' AND t.user = :user AND t.isDeleted = false")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT t FROM Task t " + OVERDUE_PREDICATE + "ORDER BY t.dueDate ASC")
     List<Task> findOverdueTasksByUser(@Param("now") LocalDateTime now, @Param("user") User user);
     
-    // Find tasks by title containing a keyword for a user (not deleted)
-    List<Task> findByTitleContainingIgnoreCaseAndUserAndIsDeletedFalse(String title, User user);
-    
-    // Find tasks created between two dates for a user (not deleted)
-    List<Task> findByCreatedAtBetweenAndUserAndIsDeletedFalse(LocalDateTime startDate, LocalDateTime endDate, User user);
+    // Count overdue tasks for a user (not deleted)
+    @Query("SELECT COUNT(t) FROM Task t " + OVERDUE_PREDICATE)
+    long countOverdueTasksByUser(@Param("now") LocalDateTime now, @Param("user") User user);
     
     // Count tasks by status for a user (not deleted)
     long countByStatusAndUserAndIsDeletedFalse(TaskStatus status, User user);
     
-    // Find tasks ordered by priority and due date for a user (not deleted)
-    @Query("SELECT t FROM Task t WHERE t.user = :user AND t.isDeleted = false ORDER BY " +
-           "CASE t.priority " +
-           "  WHEN 'URGENT' THEN 1 " +
-           "  WHEN 'HIGH' THEN 2 " +
-           "  WHEN 'MEDIUM' THEN 3 " +
-           "  WHEN 'LOW' THEN 4 " +
-           "END, t.dueDate ASC")
-    List<Task> findAllOrderByPriorityAndDueDateAndUserAndIsDeletedFalse(@Param("user") User user);
+    // All tasks for a user as DTOs (not deleted)
+    @Query(TASK_DTO_SELECT + "WHERE t.user = :user AND t.isDeleted = false")
+    List<TaskDto> findDtosByUser(@Param("user") User user);
+    
+    // Rows fetched per round trip when streaming
+    String STREAM_FETCH_SIZE = "500";
+    
+    // All tasks for a user as DTOs (not deleted), read incrementally from a database cursor.
+    // Must be consumed and closed inside a transaction.
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(TASK_DTO_SELECT + "WHERE t.user = :user AND t.isDeleted = false ORDER BY t.id ASC")
+    Stream<TaskDto> streamDtosByUser(@Param("user") User user);
+    
+    // Keyset pages: each query seeks past the sort key and id of the previous page's last row
+    // (the cursor) and is capped with a Limit, so the cost of a page does not grow with the
+    // account size or how far the client has paged. Ties on the sort key are broken by id.
+    
+    // Page of all tasks for a user as DTOs (not deleted), in id order
+    @Query(TASK_SUMMARY_SELECT + "WHERE t.user = :user AND t.isDeleted = false AND t.id > :afterId ORDER BY t.id ASC")
+    List<TaskDto> findDtoPageByUser(@Param("user") User user, @Param("afterId") UUID afterId, Limit limit);
+    
+    // Page of tasks by status for a user as DTOs (not deleted), in id order
+    @Query(TASK_SUMMARY_SELECT + "WHERE t.user = :user AND t.isDeleted = false AND t.status = :status " +
+           "AND t.id > :afterId ORDER BY t.id ASC")
+    List<TaskDto> findDtoPageByStatusAndUser(@Param("status") TaskStatus status, @Param("user") User user,
+                                             @Param("afterId") UUID afterId, Limit limit);
+    
+    // Page of tasks by priority for a user as DTOs (not deleted), in id order
+    @Query(TASK_SUMMARY_SELECT + "WHERE t.user = :user AND t.isDeleted = false AND t.priority = :priority " +
+           "AND t.id > :afterId ORDER BY t.id ASC")
+    List<TaskDto> findDtoPageByPriorityAndUser(@Param("priority") TaskPriority priority, @Param("user") User user,
+                                               @Param("afterId") UUID afterId, Limit limit);
+    
+    // Page of overdue tasks for a user as DTOs (not deleted), by due date
+    @Query(TASK_SUMMARY_SELECT + OVERDUE_PREDICATE +
+           "AND (t.dueDate > :afterDueDate OR (t.dueDate = :afterDueDate AND t.id > :afterId)) " +
+           "ORDER BY t.dueDate ASC, t.id ASC")
+    List<TaskDto> findOverdueDtoPageByUser(@Param("now") LocalDateTime now, @Param("user") User user,
+                                           @Param("afterDueDate") LocalDateTime afterDueDate,
+                                           @Param("afterId") UUID afterId, Limit limit);
+    
+    // Page of tasks whose title matches a LIKE pattern for a user as DTOs (not deleted), in id order.
+    // The pattern must be lower-cased and escaped with '!' by the caller.
+    @Query(TASK_SUMMARY_SELECT + "WHERE t.user = :user AND t.isDeleted = false AND LOWER(t.title) LIKE :pattern ESCAPE '!' " +
+           "AND t.id > :afterId ORDER BY t.id ASC")
+    List<TaskDto> findDtoPageByTitleLikeAndUser(@Param("pattern") String pattern, @Param("user") User user,
+                                                @Param("afterId") UUID afterId, Limit limit);
+    
+    // Page of tasks created between two dates for a user as DTOs (not deleted), by creation time
+    @Query(TASK_SUMMARY_SELECT + "WHERE t.user = :user AND t.isDeleted = false AND t.createdAt BETWEEN :startDate AND :endDate " +
+           "AND (t.createdAt > :afterCreatedAt OR (t.createdAt = :afterCreatedAt AND t.id > :afterId)) " +
+           "ORDER BY t.createdAt ASC, t.id ASC")
+    List<TaskDto> findDtoPageByCreatedAtBetweenAndUser(@Param("startDate") LocalDateTime startDate,
+                                                       @Param("endDate") LocalDateTime endDate,
+                                                       @Param("user") User user,
+                                                       @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                                       @Param("afterId") UUID afterId, Limit limit);
+    
+    // Descriptions of specific tasks of a user, for pages read with TASK_SUMMARY_SELECT that
+    // asked for them; tasks without a description row are left out
+    @Query("SELECT new com.akertesz.task_manager_api.repository.TaskDescriptionRow(t.id, d.description) " +
+           "FROM Task t JOIN t.taskDescription d WHERE t.user = :user AND t.id IN :ids")
+    List<TaskDescriptionRow> findDescriptionRowsByIdInAndUser(@Param("ids") Collection<UUID> ids,
+                                                              @Param("user") User user);
+    
+    // Specific tasks of a user as DTOs (not deleted), in no particular order
+    @Query(TASK_DTO_SELECT + "WHERE t.user = :user AND t.isDeleted = false AND t.id IN :ids")
+    List<TaskDto> findDtosByIdInAndUser(@Param("ids") Collection<UUID> ids, @Param("user") User user);
+    
+    // Tasks ordered by priority and due date, tasks without a due date last within a priority.
+    // Sorts on the persisted priority rank so rows stream in idx_tasks_user_deleted_rank_due order.
+    String PRIORITY_DUE_DATE_ORDER = "ORDER BY t.priorityRank ASC, t.dueDate ASC NULLS LAST, t.id ASC";
+    
+    // Page of tasks ordered by priority and due date, continuing after a task that has a due date
+    @Query(TASK_SUMMARY_SELECT + "WHERE t.user = :user AND t.isDeleted = false " +
+           "AND (t.priorityRank > :afterRank OR (t.priorityRank = :afterRank " +
+           "AND (t.dueDate IS NULL OR t.dueDate > :afterDueDate OR (t.dueDate = :afterDueDate AND t.id > :afterId)))) " +
+           PRIORITY_DUE_DATE_ORDER)
+    List<TaskDto> findOrderedDtoPageAfterDueDate(@Param("user") User user, @Param("afterRank") int afterRank,
+                                                 @Param("afterDueDate") LocalDateTime afterDueDate,
+                                                 @Param("afterId") UUID afterId, Limit limit);
+    
+    // Page of tasks ordered by priority and due date, continuing after a task without a due date
+    @Query(TASK_SUMMARY_SELECT + "WHERE t.user = :user AND t.isDeleted = false " +
+           "AND (t.priorityRank > :afterRank OR (t.priorityRank = :afterRank AND t.dueDate IS NULL AND t.id > :afterId)) " +
+           PRIORITY_DUE_DATE_ORDER)
+    List<TaskDto> findOrderedDtoPageAfterNullDueDate(@Param("user") User user, @Param("afterRank") int afterRank,
+                                                     @Param("afterId") UUID afterId, Limit limit);
+    
+    // Id and status of specific live tasks of a user, locked by bulk operations until they commit
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.akertesz.task_manager_api.repository.TaskStatusRow(t.id, t.status) FROM Task t " +
+           "WHERE t.user = :user AND t.isDeleted = false AND t.id IN :ids")
+    List<TaskStatusRow> findStatusRowsByIdInAndUser(@Param("ids") Collection<UUID> ids, @Param("user") User user);
+    
+    // Id and status of the live tasks of a user matching a bulk filter, in id order, locked
+    // until the bulk operation commits. A null criterion matches every task.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.akertesz.task_manager_api.repository.TaskStatusRow(t.id, t.status) FROM Task t " +
+           "WHERE t.user = :user AND t.isDeleted = false " +
+           "AND (:status IS NULL OR t.status = :status) " +
+           "AND (:priority IS NULL OR t.priority = :priority) " +
+           "AND (:dueBefore IS NULL OR t.dueDate < :dueBefore) " +
+           "ORDER BY t.id ASC")
+    List<TaskStatusRow> findStatusRowsByFilter(@Param("user") User user, @Param("status") TaskStatus status,
+                                               @Param("priority") TaskPriority priority,
+                                               @Param("dueBefore") LocalDateTime dueBefore, Limit limit);
+    
+    // Tasks due for archiving: soft deleted before deletedBefore, or live COMPLETED tasks last
+    // changed before completedBefore
+    String ARCHIVABLE = "((t.isDeleted = true AND COALESCE(t.deletedAt, t.updatedAt, t.createdAt) < :deletedBefore) " +
+            "OR (t.isDeleted = false AND t.status = com.akertesz.task_manager_api.model.TaskStatus.COMPLETED " +
+            "AND COALESCE(t.updatedAt, t.createdAt) < :completedBefore)) ";
+    
+    String ARCHIVE_ROW_SELECT = "SELECT new com.akertesz.task_manager_api.repository.TaskArchiveRow(" +
+            "t.id, t.user.id, t.isDeleted) FROM Task t ";
+    
+    // Next candidates for archiving after afterId, in id order. Walks the primary key, so one
+    // archive run reads the table once however few rows qualify; nothing is locked, since the
+    // walk passes over every live row. lockArchivableRows re-checks and locks the candidates.
+    @Query(ARCHIVE_ROW_SELECT + "WHERE t.id > :afterId AND " + ARCHIVABLE + "ORDER BY t.id ASC")
+    List<TaskArchiveRow> findArchivableRows(@Param("afterId") UUID afterId,
+                                            @Param("completedBefore") LocalDateTime completedBefore,
+                                            @Param("deletedBefore") LocalDateTime deletedBefore, Limit limit);
+    
+    // The candidates that still qualify, locked by primary key until the archiving transaction
+    // moves them, so a concurrent edit either lands first (and the task is skipped) or waits
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(ARCHIVE_ROW_SELECT + "WHERE t.id IN :ids AND " + ARCHIVABLE + "ORDER BY t.id ASC")
+    List<TaskArchiveRow> lockArchivableRows(@Param("ids") Collection<UUID> ids,
+                                            @Param("completedBefore") LocalDateTime completedBefore,
+                                            @Param("deletedBefore") LocalDateTime deletedBefore);
+    
+    // Next soft-deleted tasks to purge after afterId, in id order: deleted before deletedBefore.
+    // Seeks idx_tasks_deleted_id, which only soft-deleted rows occupy in its is_deleted = 1 range.
+    @Query("SELECT t.id FROM Task t WHERE t.isDeleted = true AND t.id > :afterId " +
+           "AND COALESCE(t.deletedAt, t.updatedAt, t.createdAt) < :deletedBefore ORDER BY t.id ASC")
+    List<UUID> findPurgeableIds(@Param("afterId") UUID afterId, @Param("deletedBefore") LocalDateTime deletedBefore,
+                                Limit limit);
+    
+    // Hard delete soft-deleted tasks and their descriptions
+    default int purgeByIdIn(Collection<UUID> ids) {
+        purgeDescriptionsByIdIn(ids);
+        return purgeTasksByIdIn(ids);
+    }
+    
+    @Modifying
+    @Query("DELETE FROM TaskDescription d WHERE d.taskId IN " +
+           "(SELECT t.id FROM Task t WHERE t.id IN :ids AND t.isDeleted = true)")
+    int purgeDescriptionsByIdIn(@Param("ids") Collection<UUID> ids);
+    
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids AND t.isDeleted = true")
+    int purgeTasksByIdIn(@Param("ids") Collection<UUID> ids);
+    
+    // Bulk updates: one statement per list of ids. Unlike the single-task updates below they
+    // bump version and updated_at, so a concurrent edit of a loaded task fails its version check
+    // instead of silently overwriting the bulk change.
+    
+    // Set the status of live tasks whose current status is one of fromStatuses
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :now, t.version = t.version + 1 " +
+           "WHERE t.id IN :ids AND t.user = :user AND t.isDeleted = false AND t.status IN :fromStatuses")
+    int updateStatusByIdIn(@Param("ids") Collection<UUID> ids, @Param("fromStatuses") Collection<TaskStatus> fromStatuses,
+                           @Param("status") TaskStatus status, @Param("now") LocalDateTime now,
+                           @Param("user") User user);
+    
+    // Set the priority of live tasks (keeps priority_rank in step with the enum)
+    default int updatePriorityByIdIn(Collection<UUID> ids, TaskPriority priority, LocalDateTime now, User user) {
+        return updatePriorityAndRankByIdIn(ids, priority, priority.getRank(), now, user);
+    }
+    
+    @Modifying
+    @Query("UPDATE Task t SET t.priority = :priority, t.priorityRank = :priorityRank, " +
+           "t.updatedAt = :now, t.version = t.version + 1 " +
+           "WHERE t.id IN :ids AND t.user = :user AND t.isDeleted = false")
+    int updatePriorityAndRankByIdIn(@Param("ids") Collection<UUID> ids, @Param("priority") TaskPriority priority,
+                                    @Param("priorityRank") int priorityRank, @Param("now") LocalDateTime now,
+                                    @Param("user") User user);
+    
+    // Soft delete live tasks
+    @Modifying
+    @Query("UPDATE Task t SET t.isDeleted = true, t.deletedAt = :now, t.updatedAt = :now, t.version = t.version + 1 " +
+           "WHERE t.id IN :ids AND t.user = :user AND t.isDeleted = false")
+    int softDeleteByIdIn(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now, @Param("user") User user);
     
     // Soft delete method
     @Modifying
-    @Query("UPDATE Task t SET t.isDeleted = true WHERE t.id = :id AND t.user = :user")
-    void deleteTask(@Param("id") UUID id, @Param("user") User user);
+    @Query("UPDATE Task t SET t.isDeleted = true, t.deletedAt = :now WHERE t.id = :id AND t.user = :user")
+    void deleteTask(@Param("id") UUID id, @Param("now") LocalDateTime now, @Param("user") User user);
     
     // Update task status
     @Modifying
     @Query("UPDATE Task t SET t.status = :status WHERE t.id = :id AND t.user = :user AND t.isDeleted = false")
     void updateTaskStatus(@Param("id") UUID id, @Param("status") TaskStatus status, @Param("user") User user);
     
-    // Update task priority
+    // Update task priority (keeps priority_rank in step with the enum)
+    default void updateTaskPriority(UUID id, TaskPriority priority, User user) {
+        updateTaskPriorityAndRank(id, priority, priority.getRank(), user);
+    }
+    
     @Modifying
-    @Query("UPDATE Task t SET t.priority = :priority WHERE t.id = :id AND t.user = :user AND t.isDeleted = false")
-    void updateTaskPriority(@Param("id") UUID id, @Param("priority") TaskPriority priority, @Param("user") User user);
+    @Query("UPDATE Task t SET t.priority = :priority, t.priorityRank = :priorityRank " +
+           "WHERE t.id = :id AND t.user = :user AND t.isDeleted = false")
+    void updateTaskPriorityAndRank(@Param("id") UUID id, @Param("priority") TaskPriority priority,
+                                   @Param("priorityRank") int priorityRank, @Param("user") User user);
+    
+    // Live tasks of several users in one IN-list query, by owner then id, for code that works
+    // across users (reporting, administration) instead of walking User.tasks user by user.
+    // The caller keeps the list of users within the database's IN-list limits.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT t FROM Task t WHERE t.user.id IN :userIds AND t.isDeleted = false ORDER BY t.user.id ASC, t.id ASC")
+    List<Task> findByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+    
+    // findByUserIdIn grouped by owner id; users without live tasks are absent
+    default Map<UUID, List<Task>> findTasksByUserIds(Collection<UUID> userIds) {
+        Map<UUID, List<Task>> byUser = new LinkedHashMap<>();
+        for (Task task : findByUserIdIn(userIds)) {
+            byUser.computeIfAbsent(task.getUser().getId(), id -> new ArrayList<>()).add(task);
+        }
+        return byUser;
+    }
     
     // Find tasks by username (for service layer convenience)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     @Query("SELECT t FROM Task t WHERE t.user.username = :username AND t.isDeleted = false")
     List<Task> findByUsername(@Param("username") String username);
     
@@ -0,0 +1,18 @@
+package com.akertesz.task_manager_api.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import com.akertesz.task_manager_api.model.Task;
+
+public interface TaskRepositoryCustom {
+    
+    // Insert new tasks with JDBC batching. The tasks are detached on return; other entities
+    // managed by the caller's transaction stay managed.
+    void insertAll(List<Task> tasks);
+    
+    // Move tasks into archived_tasks, stamped with archivedAt. Returns the number moved.
+    int archive(Collection<UUID> ids, LocalDateTime archivedAt);
+}
@@ -0,0 +1,74 @@
+package com.akertesz.task_manager_api.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.akertesz.task_manager_api.model.Task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Bulk insert and archive paths for TaskRepository.
+ *
+ * Tasks are persisted directly instead of going through save(): a new Task already carries
+ * a version, so save() would treat it as detached and merge it, costing a SELECT per row.
+ * The context is flushed every JDBC batch so Hibernate sends one batched INSERT per batch,
+ * and the batch's tasks are then detached so memory does not grow with the number of tasks.
+ */
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    private final int batchSize;
+    
+    public TaskRepositoryCustomImpl(@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.batchSize = batchSize;
+    }
+    
+    @Override
+    @Transactional
+    public void insertAll(List<Task> tasks) {
+        for (int from = 0; from < tasks.size(); from += batchSize) {
+            List<Task> batch = tasks.subList(from, Math.min(from + batchSize, tasks.size()));
+            batch.forEach(entityManager::persist);
+            entityManager.flush();
+            // Only the inserted tasks leave the context; entities the caller loaded stay managed
+            batch.forEach(entityManager::detach);
+        }
+    }
+    
+    /**
+     * Copies the tasks with one insert-select and deletes the originals that were copied, in
+     * the caller's transaction, so a task is always in exactly one of the two tables. The
+     * archive keeps the description inline, so the task_descriptions rows are deleted too.
+     */
+    @Override
+    @Transactional
+    public int archive(Collection<UUID> ids, LocalDateTime archivedAt) {
+        entityManager.createQuery(
+                "INSERT INTO ArchivedTask (id, userId, title, description, status, priority, createdAt, updatedAt, " +
+                "dueDate, deleted, deletedAt, archivedAt) " +
+                "SELECT t.id, t.user.id, t.title, d.description, t.status, t.priority, t.createdAt, t.updatedAt, " +
+                "t.dueDate, t.isDeleted, t.deletedAt, :archivedAt FROM Task t LEFT JOIN t.taskDescription d " +
+                "WHERE t.id IN :ids")
+                .setParameter("archivedAt", archivedAt)
+                .setParameter("ids", ids)
+                .executeUpdate();
+        entityManager.createQuery(
+                "DELETE FROM TaskDescription d WHERE d.taskId IN :ids " +
+                "AND EXISTS (SELECT 1 FROM ArchivedTask a WHERE a.id = d.taskId)")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        return entityManager.createQuery(
+                "DELETE FROM Task t WHERE t.id IN :ids AND EXISTS (SELECT 1 FROM ArchivedTask a WHERE a.id = t.id)")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+}
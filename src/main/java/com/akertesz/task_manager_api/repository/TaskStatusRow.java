@@ -0,0 +1,9 @@
+package com.akertesz.task_manager_api.repository;
+
+import java.util.UUID;
+
+import com.akertesz.task_manager_api.model.TaskStatus;
+
+// Id and current status of a task, read by bulk operations before they update
+public record TaskStatusRow(UUID id, TaskStatus status) {
+}
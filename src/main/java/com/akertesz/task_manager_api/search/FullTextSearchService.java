@@ -0,0 +1,209 @@
+package com.akertesz.task_manager_api.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.akertesz.task_manager_api.dto.TaskDto;
+import com.akertesz.task_manager_api.model.User;
+import com.akertesz.task_manager_api.repository.TaskRepository;
+import com.akertesz.task_manager_api.service.TaskChangedEvent;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Full-text search over task titles and descriptions backed by one InvertedIndex per user.
+ *
+ * A user's index is loaded from its snapshot file, or rebuilt from the database, on the
+ * first search and then maintained incrementally from TaskChangedEvents. Modified indexes
+ * are written back periodically, before idle ones are dropped and on shutdown. A snapshot
+ * is deleted as soon as its user's tasks change, whether or not the index is loaded, so
+ * after a crash or restart that user is simply rebuilt.
+ *
+ * Query syntax: whitespace separated terms must all match; putting OR between terms
+ * switches to matching any of them.
+ */
+@Service
+public class FullTextSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(FullTextSearchService.class);
+
+    private static final int FILE_MAGIC = 0x54534958;
+    private static final int FILE_VERSION = 1;
+
+    private final TaskRepository taskRepository;
+    private final TextAnalyzer analyzer;
+    private final Path indexDirectory;
+    private final Duration idleTimeout;
+
+    private final UserIndexCache<InvertedIndex> indexes = new UserIndexCache<>();
+    private final Set<UUID> dirtyUsers = ConcurrentHashMap.newKeySet();
+
+    public FullTextSearchService(TaskRepository taskRepository, TextAnalyzer analyzer,
+                                 @Value("${app.search.index-dir:data/search-index}") String indexDirectory,
+                                 @Value("${app.search.idle-timeout:PT30M}") Duration idleTimeout) {
+        this.taskRepository = taskRepository;
+        this.analyzer = analyzer;
+        this.indexDirectory = Path.of(indexDirectory);
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Searches the user's tasks. Must run inside a transaction, since the user's index may
+     * have to be built from the database first.
+     */
+    public List<SearchHit> search(User user, String query, int limit) {
+        List<String> words = new ArrayList<>();
+        boolean matchAll = true;
+        for (String word : query.trim().split("\\s+")) {
+            if (word.equals("OR")) {
+                matchAll = false;
+            } else if (!word.equals("AND")) {
+                words.add(word);
+            }
+        }
+
+        List<String> terms = analyzer.analyze(String.join(" ", words));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        return indexes.get(user.getId(), () -> loadOrBuild(user)).search(terms, matchAll, limit);
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        Consumer<InvertedIndex> update = index -> {
+            if (event.deleted()) {
+                index.remove(event.taskId());
+            } else {
+                index.put(event.taskId(), analyzer.analyze(event.title()), analyzer.analyze(event.description()));
+            }
+        };
+        // Users whose index is not in memory are rebuilt from committed data on their next
+        // search, so only their snapshot has to go. A search may have read it just before
+        // that; updates are idempotent, so applying this one again covers it.
+        boolean applied = indexes.updateIfPresent(event.userId(), update);
+        if (!applied) {
+            deleteSnapshot(event.userId());
+            applied = indexes.updateIfPresent(event.userId(), update);
+        }
+        if (applied) {
+            markDirty(event.userId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.flush-interval:PT30S}")
+    public void flush() {
+        for (UUID userId : dirtyUsers) {
+            InvertedIndex index = indexes.getIfPresent(userId);
+            dirtyUsers.remove(userId);
+            if (index != null) {
+                write(userId, index);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.eviction-interval:PT5M}")
+    public void evictIdle() {
+        // Write back first so dropped users reload from their snapshot
+        flush();
+        indexes.evictIdle(idleTimeout);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private InvertedIndex loadOrBuild(User user) {
+        long taskCount = taskRepository.countByUserAndIsDeletedFalse(user);
+        InvertedIndex loaded = read(user.getId());
+        if (loaded != null && loaded.size() == taskCount) {
+            return loaded;
+        }
+
+        InvertedIndex built = new InvertedIndex();
+        for (TaskDto task : taskRepository.findDtosByUser(user)) {
+            built.put(UUID.fromString(task.getId()), analyzer.analyze(task.getTitle()),
+                    analyzer.analyze(task.getDescription()));
+        }
+        markDirty(user.getId());
+        return built;
+    }
+
+    private void markDirty(UUID userId) {
+        if (dirtyUsers.add(userId)) {
+            deleteSnapshot(userId);
+        }
+    }
+
+    private void deleteSnapshot(UUID userId) {
+        try {
+            Files.deleteIfExists(snapshotFile(userId));
+        } catch (IOException e) {
+            log.warn("Could not invalidate search index snapshot for user {}", userId, e);
+        }
+    }
+
+    private InvertedIndex read(UUID userId) {
+        Path file = snapshotFile(userId);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FILE_MAGIC || in.readInt() != FILE_VERSION
+                    || in.readBoolean() != analyzer.isStemming()) {
+                return null;
+            }
+            return InvertedIndex.readFrom(in);
+        } catch (IOException e) {
+            log.warn("Discarding unreadable search index snapshot {}", file, e);
+            return null;
+        }
+    }
+
+    private void write(UUID userId, InvertedIndex index) {
+        Path file = snapshotFile(userId);
+        Path temp = indexDirectory.resolve(userId + ".idx.tmp");
+        try {
+            Files.createDirectories(indexDirectory);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(FILE_MAGIC);
+                out.writeInt(FILE_VERSION);
+                out.writeBoolean(analyzer.isStemming());
+                index.writeTo(out);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (dirtyUsers.contains(userId)) {
+                // Modified again while writing: the snapshot may already be stale
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            log.warn("Could not write search index snapshot for user {}", userId, e);
+            dirtyUsers.add(userId);
+        }
+    }
+
+    private Path snapshotFile(UUID userId) {
+        return indexDirectory.resolve(userId + ".idx");
+    }
+}
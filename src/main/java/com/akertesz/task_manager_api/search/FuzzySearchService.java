@@ -0,0 +1,69 @@
+package com.akertesz.task_manager_api.search;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.akertesz.task_manager_api.dto.TaskDto;
+import com.akertesz.task_manager_api.model.User;
+import com.akertesz.task_manager_api.repository.TaskRepository;
+import com.akertesz.task_manager_api.service.TaskChangedEvent;
+
+/**
+ * Typo-tolerant title search backed by one TrigramIndex per active user. Indexes are
+ * built from the database on first use, kept current from TaskChangedEvents and dropped
+ * after app.search.idle-timeout without use.
+ */
+@Service
+public class FuzzySearchService {
+
+    private final TaskRepository taskRepository;
+    private final double minSimilarity;
+    private final Duration idleTimeout;
+    private final UserIndexCache<TrigramIndex> indexes = new UserIndexCache<>();
+
+    public FuzzySearchService(TaskRepository taskRepository,
+                              @Value("${app.search.fuzzy.min-similarity:0.3}") double minSimilarity,
+                              @Value("${app.search.idle-timeout:PT30M}") Duration idleTimeout) {
+        this.taskRepository = taskRepository;
+        this.minSimilarity = minSimilarity;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Searches the user's task titles. Must run inside a transaction, since the user's
+     * index may have to be built from the database first.
+     */
+    public List<SearchHit> search(User user, String query, int limit) {
+        return indexes.get(user.getId(), () -> build(user)).search(query, minSimilarity, limit);
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        indexes.updateIfPresent(event.userId(), index -> {
+            if (event.deleted()) {
+                index.remove(event.taskId());
+            } else {
+                index.put(event.taskId(), event.title());
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.eviction-interval:PT5M}")
+    public void evictIdle() {
+        indexes.evictIdle(idleTimeout);
+    }
+
+    private TrigramIndex build(User user) {
+        TrigramIndex index = new TrigramIndex();
+        for (TaskDto task : taskRepository.findDtosByUser(user)) {
+            index.put(UUID.fromString(task.getId()), task.getTitle());
+        }
+        return index;
+    }
+}
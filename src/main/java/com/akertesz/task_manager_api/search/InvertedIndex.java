@@ -0,0 +1,202 @@
+package com.akertesz.task_manager_api.search;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index over one user's task titles and descriptions.
+ *
+ * Keeps term -> (task -> term frequency) postings plus a forward map used to remove a
+ * task's old terms when it is re-indexed or deleted. Title terms count double. Results
+ * are ranked with BM25. Searches share a read lock; updates take the write lock.
+ */
+public class InvertedIndex {
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final Comparator<SearchHit> BY_SCORE = Comparator.comparingDouble(SearchHit::score);
+
+    private final Map<String, Map<UUID, Integer>> postings = new HashMap<>();
+    private final Map<UUID, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<UUID, Integer> documentLengths = new HashMap<>();
+    private long totalLength;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(UUID taskId, List<String> titleTerms, List<String> descriptionTerms) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : titleTerms) {
+            frequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : descriptionTerms) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(taskId);
+            addDocument(taskId, frequencies);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID taskId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the best matching tasks, highest score first.
+     *
+     * @param terms analyzed query terms
+     * @param matchAll true to require every term (AND), false to accept any term (OR)
+     * @param limit maximum number of hits to return
+     */
+    public List<SearchHit> search(List<String> terms, boolean matchAll, int limit) {
+        Set<String> distinctTerms = new LinkedHashSet<>(terms);
+        if (distinctTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            Map<UUID, Double> scores = new HashMap<>();
+            Map<UUID, Integer> matchedTerms = new HashMap<>();
+            for (String term : distinctTerms) {
+                Map<UUID, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    if (matchAll) {
+                        return List.of();
+                    }
+                    continue;
+                }
+
+                int documentFrequency = posting.size();
+                double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                for (Map.Entry<UUID, Integer> entry : posting.entrySet()) {
+                    int frequency = entry.getValue();
+                    double lengthNorm = 1 - B + B * documentLengths.get(entry.getKey()) / averageLength;
+                    double score = idf * frequency * (K1 + 1) / (frequency + K1 * lengthNorm);
+                    scores.merge(entry.getKey(), score, Double::sum);
+                    matchedTerms.merge(entry.getKey(), 1, Integer::sum);
+                }
+            }
+
+            // Keep the top hits in a bounded min-heap instead of sorting every match
+            PriorityQueue<SearchHit> top = new PriorityQueue<>(limit + 1, BY_SCORE);
+            for (Map.Entry<UUID, Double> entry : scores.entrySet()) {
+                if (matchAll && matchedTerms.get(entry.getKey()) < distinctTerms.size()) {
+                    continue;
+                }
+                top.offer(new SearchHit(entry.getKey(), entry.getValue()));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<SearchHit> hits = new ArrayList<>(top);
+            hits.sort(BY_SCORE.reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the forward index (task -> term frequencies); postings are rebuilt on read.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(documents.size());
+            for (Map.Entry<UUID, Map<String, Integer>> document : documents.entrySet()) {
+                out.writeLong(document.getKey().getMostSignificantBits());
+                out.writeLong(document.getKey().getLeastSignificantBits());
+                out.writeInt(document.getValue().size());
+                for (Map.Entry<String, Integer> term : document.getValue().entrySet()) {
+                    out.writeUTF(term.getKey());
+                    out.writeInt(term.getValue());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static InvertedIndex readFrom(DataInput in) throws IOException {
+        InvertedIndex index = new InvertedIndex();
+        int documentCount = in.readInt();
+        for (int i = 0; i < documentCount; i++) {
+            UUID taskId = new UUID(in.readLong(), in.readLong());
+            int termCount = in.readInt();
+            Map<String, Integer> frequencies = new HashMap<>(termCount * 2);
+            for (int j = 0; j < termCount; j++) {
+                frequencies.put(in.readUTF(), in.readInt());
+            }
+            index.addDocument(taskId, frequencies);
+        }
+        return index;
+    }
+
+    private void addDocument(UUID taskId, Map<String, Integer> frequencies) {
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(taskId, entry.getValue());
+            length += entry.getValue();
+        }
+        documents.put(taskId, frequencies);
+        documentLengths.put(taskId, length);
+        totalLength += length;
+    }
+
+    private void removeDocument(UUID taskId) {
+        Map<String, Integer> frequencies = documents.remove(taskId);
+        if (frequencies == null) {
+            return;
+        }
+        for (String term : frequencies.keySet()) {
+            Map<UUID, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(taskId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= documentLengths.remove(taskId);
+    }
+}
@@ -0,0 +1,10 @@
+package com.akertesz.task_manager_api.search;
+
+import java.util.UUID;
+
+/**
+ * A task matched by one of the in-memory search structures, with its relevance score
+ * (higher is better).
+ */
+public record SearchHit(UUID taskId, double score) {
+}
@@ -0,0 +1,73 @@
+package com.akertesz.task_manager_api.search;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.akertesz.task_manager_api.dto.TaskDto;
+import com.akertesz.task_manager_api.model.User;
+import com.akertesz.task_manager_api.repository.TaskRepository;
+import com.akertesz.task_manager_api.service.TaskChangedEvent;
+
+/**
+ * Title autocompletion backed by one SuggestionTrie per active user. Tries are built from
+ * the database on first use, kept current from TaskChangedEvents and dropped after
+ * app.search.idle-timeout without use.
+ */
+@Service
+public class SuggestionService {
+
+    private final TaskRepository taskRepository;
+    private final Duration idleTimeout;
+    private final UserIndexCache<SuggestionTrie> tries = new UserIndexCache<>();
+
+    public SuggestionService(TaskRepository taskRepository,
+                             @Value("${app.search.idle-timeout:PT30M}") Duration idleTimeout) {
+        this.taskRepository = taskRepository;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Suggests titles for the prefix. Must run inside a transaction, since the user's trie
+     * may have to be built from the database first.
+     */
+    public List<SuggestionTrie.Suggestion> suggest(User user, String prefix, int limit) {
+        return tries.get(user.getId(), () -> build(user)).suggest(prefix, limit);
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        tries.updateIfPresent(event.userId(), trie -> {
+            if (event.deleted()) {
+                trie.remove(event.taskId());
+            } else {
+                trie.put(event.taskId(), event.title(), event.priority(),
+                        lastChanged(event.createdAt(), event.updatedAt()));
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.eviction-interval:PT5M}")
+    public void evictIdle() {
+        tries.evictIdle(idleTimeout);
+    }
+
+    private SuggestionTrie build(User user) {
+        SuggestionTrie trie = new SuggestionTrie();
+        for (TaskDto task : taskRepository.findDtosByUser(user)) {
+            trie.put(UUID.fromString(task.getId()), task.getTitle(), task.getPriority(),
+                    lastChanged(task.getCreatedAt(), task.getUpdatedAt()));
+        }
+        return trie;
+    }
+
+    private static LocalDateTime lastChanged(LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return updatedAt != null ? updatedAt : createdAt;
+    }
+}
@@ -0,0 +1,307 @@
+package com.akertesz.task_manager_api.search;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.akertesz.task_manager_api.model.TaskPriority;
+
+/**
+ * Radix trie over one user's task titles for prefix autocompletion.
+ *
+ * A title is stored under every word-start suffix of its normalized form, so "rep" finds
+ * "Quarterly report" as well as "Report bug". Edges carry whole label strings and nodes keep
+ * their children in a sorted array and their task ids in a plain array, which keeps the
+ * structure small for the short, sparse key sets a single user has.
+ *
+ * Suggestions are ranked by priority (most urgent first), then most recently changed.
+ */
+public class SuggestionTrie {
+
+    public record Suggestion(UUID taskId, String title, TaskPriority priority, LocalDateTime changedAt) {
+
+        private int priorityRank() {
+            return priority == null ? Integer.MAX_VALUE : priority.getRank();
+        }
+    }
+
+    private static final Comparator<Suggestion> BEST_FIRST = Comparator
+            .comparingInt(Suggestion::priorityRank)
+            .thenComparing(Suggestion::changedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Suggestion::taskId);
+
+    private final Node root = new Node("");
+    private final Map<UUID, Suggestion> suggestions = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(UUID taskId, String title, TaskPriority priority, LocalDateTime changedAt) {
+        lock.writeLock().lock();
+        try {
+            removeSuggestion(taskId);
+            suggestions.put(taskId, new Suggestion(taskId, title, priority, changedAt));
+            for (String key : keys(title)) {
+                insert(key, taskId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID taskId) {
+        lock.writeLock().lock();
+        try {
+            removeSuggestion(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return suggestions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to limit titles with a word starting with the given prefix, best first.
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node subtree = findSubtree(key);
+            if (subtree == null) {
+                return List.of();
+            }
+
+            PriorityQueue<Suggestion> top = new PriorityQueue<>(limit + 1, BEST_FIRST.reversed());
+            Set<UUID> seen = new HashSet<>();
+            Deque<Node> pending = new ArrayDeque<>();
+            pending.push(subtree);
+            while (!pending.isEmpty()) {
+                Node node = pending.pop();
+                for (UUID taskId : node.ids) {
+                    if (seen.add(taskId)) {
+                        top.offer(suggestions.get(taskId));
+                        if (top.size() > limit) {
+                            top.poll();
+                        }
+                    }
+                }
+                for (Node child : node.children) {
+                    pending.push(child);
+                }
+            }
+
+            List<Suggestion> result = new ArrayList<>(top);
+            result.sort(BEST_FIRST);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+
+    static Set<String> keys(String title) {
+        String normalized = normalize(title);
+        Set<String> keys = new LinkedHashSet<>();
+        if (normalized.isEmpty()) {
+            return keys;
+        }
+        keys.add(normalized);
+        for (int i = 1; i < normalized.length(); i++) {
+            if (normalized.charAt(i - 1) == ' ') {
+                keys.add(normalized.substring(i));
+            }
+        }
+        return keys;
+    }
+
+    private Node findSubtree(String key) {
+        Node node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            int slot = node.indexOf(key.charAt(offset));
+            if (slot < 0) {
+                return null;
+            }
+            Node child = node.children[slot];
+            int common = commonPrefix(child.label, key, offset);
+            if (offset + common == key.length()) {
+                // The prefix ends on or inside this edge: everything below it matches
+                return child;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            node = child;
+            offset += common;
+        }
+        return node;
+    }
+
+    private void insert(String key, UUID taskId) {
+        Node node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            int slot = node.indexOf(key.charAt(offset));
+            if (slot < 0) {
+                Node leaf = new Node(key.substring(offset));
+                leaf.addId(taskId);
+                node.insertChild(-slot - 1, leaf);
+                return;
+            }
+            Node child = node.children[slot];
+            int common = commonPrefix(child.label, key, offset);
+            if (common < child.label.length()) {
+                Node split = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.children = new Node[] {child};
+                node.children[slot] = split;
+                child = split;
+            }
+            node = child;
+            offset += common;
+        }
+        node.addId(taskId);
+    }
+
+    private void removeSuggestion(UUID taskId) {
+        Suggestion existing = suggestions.remove(taskId);
+        if (existing == null) {
+            return;
+        }
+        for (String key : keys(existing.title())) {
+            remove(root, key, 0, taskId);
+        }
+    }
+
+    private void remove(Node node, String key, int offset, UUID taskId) {
+        if (offset == key.length()) {
+            node.removeId(taskId);
+            return;
+        }
+        int slot = node.indexOf(key.charAt(offset));
+        if (slot < 0) {
+            return;
+        }
+        Node child = node.children[slot];
+        if (!key.startsWith(child.label, offset)) {
+            return;
+        }
+        remove(child, key, offset + child.label.length(), taskId);
+
+        // Prune empty leaves and fold single-child chains back into one edge
+        if (child.ids.length == 0 && child.children.length == 0) {
+            node.removeChild(slot);
+        } else if (child.ids.length == 0 && child.children.length == 1) {
+            Node only = child.children[0];
+            only.label = child.label + only.label;
+            node.children[slot] = only;
+        }
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int length = 0;
+        while (length < label.length() && offset + length < key.length()
+                && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static final class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final UUID[] NO_IDS = new UUID[0];
+
+        private String label;
+        private Node[] children = NO_CHILDREN;
+        private UUID[] ids = NO_IDS;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private int indexOf(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midChar = children[mid].label.charAt(0);
+                if (midChar < first) {
+                    low = mid + 1;
+                } else if (midChar > first) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private void insertChild(int slot, Node child) {
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, slot);
+            grown[slot] = child;
+            System.arraycopy(children, slot, grown, slot + 1, children.length - slot);
+            children = grown;
+        }
+
+        private void removeChild(int slot) {
+            Node[] shrunk = new Node[children.length - 1];
+            System.arraycopy(children, 0, shrunk, 0, slot);
+            System.arraycopy(children, slot + 1, shrunk, slot, children.length - slot - 1);
+            children = shrunk.length == 0 ? NO_CHILDREN : shrunk;
+        }
+
+        private void addId(UUID taskId) {
+            for (UUID id : ids) {
+                if (id.equals(taskId)) {
+                    return;
+                }
+            }
+            ids = Arrays.copyOf(ids, ids.length + 1);
+            ids[ids.length - 1] = taskId;
+        }
+
+        private void removeId(UUID taskId) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i].equals(taskId)) {
+                    UUID[] shrunk = new UUID[ids.length - 1];
+                    System.arraycopy(ids, 0, shrunk, 0, i);
+                    System.arraycopy(ids, i + 1, shrunk, i, ids.length - i - 1);
+                    ids = shrunk.length == 0 ? NO_IDS : shrunk;
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.akertesz.task_manager_api.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns task text into index terms: splits on anything that is not a letter or digit,
+ * case-folds, and optionally applies a light English suffix stemmer. The same analyzer
+ * is used for indexing and for queries.
+ */
+@Component
+public class TextAnalyzer {
+
+    private static final int MIN_STEM_LENGTH = 3;
+
+    private final boolean stemming;
+
+    public TextAnalyzer(@Value("${app.search.stemming:true}") boolean stemming) {
+        this.stemming = stemming;
+    }
+
+    public boolean isStemming() {
+        return stemming;
+    }
+
+    public List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                terms.add(normalize(text.substring(start, i)));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private String normalize(String token) {
+        String term = token.toLowerCase(Locale.ROOT);
+        return stemming ? stem(term) : term;
+    }
+
+    /**
+     * Strips common English inflections (plurals, -ing, -ed). Deliberately conservative:
+     * it only has to map a query term and the indexed word onto the same key.
+     */
+    static String stem(String term) {
+        if (term.endsWith("ies") && term.length() - 2 >= MIN_STEM_LENGTH) {
+            return term.substring(0, term.length() - 3) + "y";
+        }
+        if (term.endsWith("ing") && term.length() - 3 >= MIN_STEM_LENGTH) {
+            return term.substring(0, term.length() - 3);
+        }
+        if (term.endsWith("ed") && term.length() - 2 >= MIN_STEM_LENGTH) {
+            return term.substring(0, term.length() - 2);
+        }
+        if (term.endsWith("s") && !term.endsWith("ss") && term.length() - 1 >= MIN_STEM_LENGTH) {
+            return term.substring(0, term.length() - 1);
+        }
+        return term;
+    }
+}
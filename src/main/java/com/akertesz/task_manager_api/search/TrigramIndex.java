@@ -0,0 +1,141 @@
+package com.akertesz.task_manager_api.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Trigram index over one user's task titles for typo-tolerant matching.
+ *
+ * Each word is padded (two leading blanks, one trailing) and cut into three-character
+ * grams, the same scheme as PostgreSQL's pg_trgm. Candidates are the titles sharing at
+ * least one gram with the query; their similarity is the Jaccard ratio of the two gram
+ * sets, and the best ones are kept in a bounded min-heap.
+ */
+public class TrigramIndex {
+
+    private static final Comparator<SearchHit> BY_SCORE = Comparator.comparingDouble(SearchHit::score);
+
+    private final Map<String, Set<UUID>> postings = new HashMap<>();
+    private final Map<UUID, Set<String>> titles = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(UUID taskId, String title) {
+        Set<String> grams = trigrams(title);
+        lock.writeLock().lock();
+        try {
+            removeTitle(taskId);
+            titles.put(taskId, grams);
+            for (String gram : grams) {
+                postings.computeIfAbsent(gram, key -> new HashSet<>()).add(taskId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID taskId) {
+        lock.writeLock().lock();
+        try {
+            removeTitle(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return titles.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to limit titles whose similarity to the query is at least minSimilarity,
+     * most similar first.
+     */
+    public List<SearchHit> search(String query, double minSimilarity, int limit) {
+        Set<String> queryGrams = trigrams(query);
+        if (queryGrams.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<UUID, Integer> sharedGrams = new HashMap<>();
+            for (String gram : queryGrams) {
+                Set<UUID> posting = postings.get(gram);
+                if (posting != null) {
+                    for (UUID taskId : posting) {
+                        sharedGrams.merge(taskId, 1, Integer::sum);
+                    }
+                }
+            }
+
+            PriorityQueue<SearchHit> top = new PriorityQueue<>(limit + 1, BY_SCORE);
+            for (Map.Entry<UUID, Integer> candidate : sharedGrams.entrySet()) {
+                int shared = candidate.getValue();
+                int union = queryGrams.size() + titles.get(candidate.getKey()).size() - shared;
+                double similarity = (double) shared / union;
+                if (similarity < minSimilarity) {
+                    continue;
+                }
+                top.offer(new SearchHit(candidate.getKey(), similarity));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<SearchHit> hits = new ArrayList<>(top);
+            hits.sort(BY_SCORE.reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static Set<String> trigrams(String text) {
+        Set<String> grams = new HashSet<>();
+        if (text == null) {
+            return grams;
+        }
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams.add(padded.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+
+    private void removeTitle(UUID taskId) {
+        Set<String> grams = titles.remove(taskId);
+        if (grams == null) {
+            return;
+        }
+        for (String gram : grams) {
+            Set<UUID> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(taskId);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.akertesz.task_manager_api.search;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Holds one lazily built in-memory structure per active user and drops the ones that
+ * have not been used for a while.
+ *
+ * Updates are only applied to structures that are already loaded; a user without one is
+ * rebuilt from committed data on next use. Building and updating the same user are
+ * serialized on that user's entry, so an update that races with a build is applied after
+ * it. The build itself runs outside the map's locks and never blocks other users.
+ */
+public class UserIndexCache<T> {
+
+    private final Map<UUID, Entry<T>> entries = new ConcurrentHashMap<>();
+
+    public T get(UUID userId, Supplier<T> builder) {
+        Entry<T> entry = entries.computeIfAbsent(userId, id -> new Entry<>());
+        entry.lastAccess = System.nanoTime();
+        return entry.get(builder);
+    }
+
+    public T getIfPresent(UUID userId) {
+        Entry<T> entry = entries.get(userId);
+        return entry != null ? entry.peek() : null;
+    }
+
+    /**
+     * Applies the update if the user's structure is loaded, waiting for a build in
+     * progress. Returns whether it was applied.
+     */
+    public boolean updateIfPresent(UUID userId, Consumer<T> update) {
+        Entry<T> entry = entries.get(userId);
+        return entry != null && entry.update(update);
+    }
+
+    public int evictIdle(Duration idleTimeout) {
+        long cutoff = System.nanoTime() - idleTimeout.toNanos();
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.lastAccess - cutoff < 0);
+        return before - entries.size();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static final class Entry<T> {
+        private T value;
+        private volatile long lastAccess = System.nanoTime();
+
+        private synchronized T get(Supplier<T> builder) {
+            if (value == null) {
+                value = builder.get();
+            }
+            return value;
+        }
+
+        private synchronized T peek() {
+            return value;
+        }
+
+        private synchronized boolean update(Consumer<T> update) {
+            if (value == null) {
+                return false;
+            }
+            update.accept(value);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.akertesz.task_manager_api.service;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.akertesz.task_manager_api.config.RetryProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.persistence.OptimisticLockException;
+
+/**
+ * Retries RetryOnConflict methods that fail because another transaction changed the same row
+ * first. Ordered ahead of the transaction interceptor, so every attempt runs in a transaction
+ * of its own and re-reads the current state. Between attempts it waits a random time up to a
+ * bound that doubles per retry (full jitter), so clients colliding on one task spread out
+ * instead of colliding again. When the attempts run out the conflict reaches the client as 409.
+ *
+ * Metrics, tagged with the method: tasks.lock.conflicts (every failed attempt),
+ * tasks.lock.retries (attempts made again) and tasks.lock.exhausted (calls that gave up).
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class OptimisticLockRetryAspect {
+
+    private static final Logger log = LoggerFactory.getLogger(OptimisticLockRetryAspect.class);
+
+    private final RetryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public OptimisticLockRetryAspect(RetryProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(com.akertesz.task_manager_api.service.RetryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        // Inside a caller's transaction a retry would reuse the failed persistence context
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String method = joinPoint.getSignature().getName();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                meterRegistry.counter("tasks.lock.conflicts", "method", method).increment();
+                if (attempt >= properties.getMaxAttempts() || !backOff(attempt)) {
+                    meterRegistry.counter("tasks.lock.exhausted", "method", method).increment();
+                    log.debug("{} still conflicting after {} attempts", method, attempt);
+                    throw e;
+                }
+                meterRegistry.counter("tasks.lock.retries", "method", method).increment();
+            }
+        }
+    }
+
+    // Sleeps before retry number attempt; false if interrupted
+    private boolean backOff(int attempt) {
+        long bound = properties.getInitialBackoff().toNanos() << Math.min(attempt - 1, 20);
+        bound = Math.min(bound, properties.getMaxBackoff().toNanos());
+        if (bound <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(Duration.ofNanos(ThreadLocalRandom.current().nextLong(bound + 1)));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.akertesz.task_manager_api.service;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the method again, in a new transaction, when it fails on an optimistic-lock conflict
+ * (see OptimisticLockRetryAspect). Only for methods that re-read what they change and can be
+ * applied again as a whole: a retry must not repeat a side effect of the failed attempt.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RetryOnConflict {
+}
@@ -0,0 +1,183 @@
+package com.akertesz.task_manager_api.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.akertesz.task_manager_api.config.ArchiveProperties;
+import com.akertesz.task_manager_api.config.PaginationProperties;
+import com.akertesz.task_manager_api.dto.TaskDto;
+import com.akertesz.task_manager_api.dto.TaskPage;
+import com.akertesz.task_manager_api.exception.TaskNotFoundException;
+import com.akertesz.task_manager_api.exception.UserNotFoundException;
+import com.akertesz.task_manager_api.model.User;
+import com.akertesz.task_manager_api.repository.ArchivedTaskRepository;
+import com.akertesz.task_manager_api.repository.TaskArchiveRow;
+import com.akertesz.task_manager_api.repository.TaskRepository;
+import com.akertesz.task_manager_api.repository.UserRepository;
+
+/**
+ * Keeps the tasks table small by moving tasks nobody works on any more into archived_tasks:
+ * COMPLETED tasks untouched for app.archive.completed-after and soft-deleted tasks older than
+ * app.archive.deleted-after. Archived tasks stay readable through the archive endpoints.
+ *
+ * A run walks the tasks table once in id order without locking it, collecting candidates in
+ * batches of batchSize. Each batch is moved in its own short transaction that locks only the
+ * candidates still qualifying, by primary key, and the run pauses batchPause between batches
+ * so it never competes with request traffic for long. Runs are started by the scheduler but
+ * execute on the application task executor, so the pauses do not hold up other scheduled work.
+ */
+@Service
+public class TaskArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiveService.class);
+
+    private static final String ARCHIVE_CURSOR = "archived";
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArchiveProperties properties;
+    private final PaginationProperties pagination;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncTaskExecutor executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public TaskArchiveService(TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository,
+                              UserRepository userRepository, ApplicationEventPublisher eventPublisher,
+                              ArchiveProperties properties, PaginationProperties pagination,
+                              PlatformTransactionManager transactionManager,
+                              @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                              AsyncTaskExecutor executor) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.pagination = pagination;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+    }
+
+    // Starts a run unless one is still going
+    @Scheduled(initialDelayString = "${app.archive.initial-delay:PT5M}", fixedDelayString = "${app.archive.interval:PT1H}")
+    public void scheduleArchive() {
+        if (!properties.isEnabled() || !running.compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                archiveTasks();
+            } catch (RuntimeException e) {
+                log.warn("Task archive run failed; the next run continues where it stopped", e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    /**
+     * Archives every task that qualifies now and returns how many were moved.
+     */
+    public long archiveTasks() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime completedBefore = now.minus(properties.getCompletedAfter());
+        LocalDateTime deletedBefore = now.minus(properties.getDeletedAfter());
+        int batchSize = properties.getBatchSize();
+
+        long archived = 0;
+        UUID afterId = TaskCursor.MIN_ID;
+        while (true) {
+            List<TaskArchiveRow> candidates = taskRepository.findArchivableRows(afterId, completedBefore,
+                    deletedBefore, Limit.of(batchSize));
+            if (candidates.isEmpty()) {
+                break;
+            }
+            archived += transactionTemplate.execute(status -> archiveBatch(candidates, completedBefore, deletedBefore));
+            afterId = candidates.get(candidates.size() - 1).id();
+            if (candidates.size() < batchSize) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            log.info("Archived {} tasks", archived);
+        }
+        return archived;
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPage getArchivedTasks(String username, String cursor, Integer limit) {
+        User user = userRepository.findByUsername(username);
+        if (user == null) {
+            throw new UserNotFoundException("User not found: " + username);
+        }
+
+        int pageSize = pagination.resolvePageSize(limit);
+        UUID afterId = cursor == null ? TaskCursor.MIN_ID : TaskCursor.decode(cursor, ARCHIVE_CURSOR, 1).uuid(0);
+        List<TaskDto> rows = archivedTaskRepository.findDtoPageByUserId(user.getId(), afterId, Limit.of(pageSize + 1));
+        if (rows.size() <= pageSize) {
+            return new TaskPage(rows, null);
+        }
+        List<TaskDto> page = new ArrayList<>(rows.subList(0, pageSize));
+        return new TaskPage(page, TaskCursor.encode(ARCHIVE_CURSOR, page.get(pageSize - 1).getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public TaskDto getArchivedTask(UUID id, String username) {
+        User user = userRepository.findByUsername(username);
+        if (user == null) {
+            throw new UserNotFoundException("User not found: " + username);
+        }
+
+        return archivedTaskRepository.findDtoByIdAndUserId(id, user.getId())
+                .orElseThrow(() -> new TaskNotFoundException("Archived task not found with id: " + id));
+    }
+
+    // Moves the candidates that still qualify and returns how many were moved
+    private int archiveBatch(List<TaskArchiveRow> candidates, LocalDateTime completedBefore,
+                             LocalDateTime deletedBefore) {
+        List<TaskArchiveRow> rows = taskRepository.lockArchivableRows(
+                candidates.stream().map(TaskArchiveRow::id).toList(), completedBefore, deletedBefore);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        taskRepository.archive(rows.stream().map(TaskArchiveRow::id).toList(), LocalDateTime.now());
+        for (TaskArchiveRow row : rows) {
+            // Deleted tasks already left the search structures when they were deleted
+            if (!row.deleted()) {
+                eventPublisher.publishEvent(TaskChangedEvent.deleted(row.userId(), row.id()));
+            }
+        }
+        return rows.size();
+    }
+
+    // False if the run should stop because the thread was interrupted (shutdown)
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getBatchPause());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.akertesz.task_manager_api.service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.akertesz.task_manager_api.dto.TaskDto;
+import com.akertesz.task_manager_api.model.Task;
+import com.akertesz.task_manager_api.model.TaskPriority;
+
+/**
+ * Published by the task service after a task is created, modified or soft deleted.
+ * In-memory search structures listen for it after commit to stay in sync with the table.
+ */
+public record TaskChangedEvent(
+        UUID userId,
+        UUID taskId,
+        String title,
+        String description,
+        TaskPriority priority,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        boolean deleted) {
+
+    public static TaskChangedEvent saved(UUID userId, Task task) {
+        return new TaskChangedEvent(userId, task.getId(), task.getTitle(), task.getDescription(),
+                task.getPriority(), task.getCreatedAt(), task.getUpdatedAt(), false);
+    }
+
+    public static TaskChangedEvent saved(UUID userId, TaskDto task) {
+        return new TaskChangedEvent(userId, UUID.fromString(task.getId()), task.getTitle(), task.getDescription(),
+                task.getPriority(), task.getCreatedAt(), task.getUpdatedAt(), false);
+    }
+
+    public static TaskChangedEvent deleted(UUID userId, UUID taskId) {
+        return new TaskChangedEvent(userId, taskId, null, null, null, null, null, true);
+    }
+}
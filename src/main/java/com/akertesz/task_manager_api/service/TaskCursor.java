@@ -0,0 +1,91 @@
+package com.akertesz.task_manager_api.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.akertesz.task_manager_api.exception.InvalidRequestException;
+
+/**
+ * Opaque keyset pagination cursor: the sort key values and id of the last task on a page,
+ * tagged with the kind of listing it belongs to and base64url encoded. Clients pass it back
+ * unchanged to continue after that task.
+ */
+final class TaskCursor {
+
+    private static final String SEPARATOR = "|";
+
+    // Lower bounds used for the first page, below any value a real row can hold
+    static final UUID MIN_ID = new UUID(0L, 0L);
+    static final LocalDateTime MIN_DATE_TIME = LocalDateTime.of(1000, 1, 1, 0, 0);
+
+    private final String[] values;
+
+    private TaskCursor(String[] values) {
+        this.values = values;
+    }
+
+    static String encode(String kind, Object... keys) {
+        StringBuilder raw = new StringBuilder(kind);
+        for (Object key : keys) {
+            raw.append(SEPARATOR).append(key == null ? "" : key.toString());
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor issued for the given kind of listing with the given number of keys.
+     */
+    static TaskCursor decode(String cursor, String kind, int keyCount) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != keyCount + 1 || !parts[0].equals(kind)) {
+                throw new InvalidRequestException("Invalid cursor: " + cursor);
+            }
+            String[] values = new String[keyCount];
+            System.arraycopy(parts, 1, values, 0, keyCount);
+            return new TaskCursor(values);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    UUID uuid(int index) {
+        try {
+            return UUID.fromString(values[index]);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid cursor", e);
+        }
+    }
+
+    LocalDateTime dateTime(int index) {
+        LocalDateTime value = optionalDateTime(index);
+        if (value == null) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+        return value;
+    }
+
+    // Null when the cursor holds no value for this key
+    LocalDateTime optionalDateTime(int index) {
+        if (values[index].isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(values[index]);
+        } catch (DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid cursor", e);
+        }
+    }
+
+    int integer(int index) {
+        try {
+            return Integer.parseInt(values[index]);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("Invalid cursor", e);
+        }
+    }
+}
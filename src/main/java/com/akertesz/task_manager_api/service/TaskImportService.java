@@ -0,0 +1,282 @@
+package com.akertesz.task_manager_api.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.akertesz.task_manager_api.config.ImportProperties;
+import com.akertesz.task_manager_api.dto.BulkItemResult;
+import com.akertesz.task_manager_api.dto.BulkItemStatus;
+import com.akertesz.task_manager_api.dto.CreateTaskRequest;
+import com.akertesz.task_manager_api.dto.ImportJobDto;
+import com.akertesz.task_manager_api.exception.InvalidRequestException;
+import com.akertesz.task_manager_api.exception.UserNotFoundException;
+import com.akertesz.task_manager_api.id.IdGenerator;
+import com.akertesz.task_manager_api.importing.ImportRecord;
+import com.akertesz.task_manager_api.importing.TaskRecordReader;
+import com.akertesz.task_manager_api.model.ImportFormat;
+import com.akertesz.task_manager_api.model.ImportJob;
+import com.akertesz.task_manager_api.model.ImportStatus;
+import com.akertesz.task_manager_api.model.Task;
+import com.akertesz.task_manager_api.model.User;
+import com.akertesz.task_manager_api.repository.ImportJobRepository;
+import com.akertesz.task_manager_api.repository.TaskRepository;
+import com.akertesz.task_manager_api.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.Validator;
+
+/**
+ * Imports tasks from CSV or NDJSON input of any size.
+ *
+ * The calling thread parses and validates records and hands them in batches to a writer thread
+ * through a small bounded queue: parsing blocks whenever writing falls behind, so memory stays
+ * flat however large the input is. Each batch is inserted in its own transaction together with
+ * the job's checkpoint, the number of input records it covers. An interrupted import is resumed
+ * by sending the same input again with the job id; records up to the checkpoint are skipped.
+ */
+@Service
+public class TaskImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskImportService.class);
+
+    // Committed batches between progress log lines
+    private static final int PROGRESS_LOG_INTERVAL = 20;
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final ImportJobRepository importJobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ImportProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncTaskExecutor executor;
+    private final IdGenerator idGenerator;
+
+    public TaskImportService(TaskRepository taskRepository, UserRepository userRepository,
+                             ImportJobRepository importJobRepository, ApplicationEventPublisher eventPublisher,
+                             Validator validator, ObjectMapper objectMapper, ImportProperties properties,
+                             IdGenerator idGenerator,
+                             PlatformTransactionManager transactionManager,
+                             @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                             AsyncTaskExecutor executor) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.importJobRepository = importJobRepository;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+        this.idGenerator = idGenerator;
+    }
+
+    /**
+     * Imports every record of the input for the user, or the records after the checkpoint of
+     * resumeJobId when given. Returns when the whole input is committed.
+     */
+    public ImportJobDto importTasks(String username, ImportFormat format, InputStream input, UUID resumeJobId)
+            throws IOException {
+        User user = userRepository.findByUsername(username);
+        if (user == null) {
+            throw new UserNotFoundException("User not found: " + username);
+        }
+
+        ImportJob job = resumeJobId == null
+                ? importJobRepository.save(new ImportJob(idGenerator.newId(), user, format))
+                : resume(resumeJobId, user, format);
+        log.info("Import {} of {} tasks for {} started after record {}", job.getId(), format, username,
+                job.getProcessedRows());
+
+        List<BulkItemResult> rowErrors = new ArrayList<>();
+        BlockingQueue<ImportBatch> queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        Future<Void> writer = executor.submit(() -> write(queue, job.getId(), username));
+        try (TaskRecordReader reader = TaskRecordReader.open(format, input, objectMapper)) {
+            read(reader, job.getProcessedRows(), queue, writer, rowErrors);
+            writer.get();
+        } catch (IOException | RuntimeException e) {
+            writer.cancel(true);
+            fail(job.getId(), e);
+            throw e;
+        } catch (InterruptedException e) {
+            writer.cancel(true);
+            Thread.currentThread().interrupt();
+            fail(job.getId(), e);
+            throw new IllegalStateException("Import " + job.getId() + " was interrupted", e);
+        } catch (ExecutionException e) {
+            fail(job.getId(), e.getCause());
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Import " + job.getId() + " failed", e.getCause());
+        }
+
+        importJobRepository.finish(job.getId(), ImportStatus.COMPLETED, null, LocalDateTime.now());
+        // Read in a read-write transaction so it is served by the primary, which has the final counts
+        ImportJob finished = transactionTemplate.execute(status -> importJobRepository.findById(job.getId()).orElseThrow());
+        log.info("Import {} completed: {} records, {} tasks imported, {} rejected", finished.getId(),
+                finished.getProcessedRows(), finished.getImportedTasks(), finished.getFailedRows());
+        return convertToDto(finished, rowErrors);
+    }
+
+    @Transactional(readOnly = true)
+    public ImportJobDto getImportJob(UUID id, String username) {
+        User user = userRepository.findByUsername(username);
+        if (user == null) {
+            throw new UserNotFoundException("User not found: " + username);
+        }
+
+        ImportJob job = importJobRepository.findByIdAndUser(id, user)
+                .orElseThrow(() -> new InvalidRequestException("Import job not found: " + id));
+        return convertToDto(job, List.of());
+    }
+
+    private ImportJob resume(UUID jobId, User user, ImportFormat format) {
+        ImportJob job = importJobRepository.findByIdAndUser(jobId, user)
+                .orElseThrow(() -> new InvalidRequestException("Import job not found: " + jobId));
+        if (job.getStatus() == ImportStatus.COMPLETED) {
+            throw new InvalidRequestException("Import job " + jobId + " has already completed");
+        }
+        if (job.getFormat() != format) {
+            throw new InvalidRequestException("Import job " + jobId + " was started with " + job.getFormat() + " input");
+        }
+        job.setStatus(ImportStatus.RUNNING);
+        job.setError(null);
+        return importJobRepository.save(job);
+    }
+
+    /**
+     * Producer side: groups the records after the checkpoint into batches of batchSize records
+     * and queues them. Rejected records count towards a batch so the checkpoint covers them too.
+     */
+    private void read(TaskRecordReader reader, long checkpoint, BlockingQueue<ImportBatch> queue,
+                      Future<Void> writer, List<BulkItemResult> rowErrors)
+            throws IOException, InterruptedException, ExecutionException {
+        int batchSize = properties.getBatchSize();
+        List<CreateTaskRequest> requests = new ArrayList<>(batchSize);
+        int rejected = 0;
+        long batchStart = checkpoint;
+        long last = checkpoint;
+
+        for (ImportRecord record = reader.next(); record != null; record = reader.next()) {
+            if (record.number() <= checkpoint) {
+                continue;
+            }
+            last = record.number();
+            Map<String, String> errors = record.errors() != null
+                    ? record.errors()
+                    : TaskServiceImpl.validate(validator, record.request());
+            if (errors.isEmpty()) {
+                requests.add(record.request());
+            } else {
+                rejected++;
+                if (rowErrors.size() < properties.getMaxReportedErrors()) {
+                    rowErrors.add(new BulkItemResult((int) record.number(), null, BulkItemStatus.INVALID, errors));
+                }
+            }
+            if (requests.size() + rejected == batchSize) {
+                put(queue, new ImportBatch(requests, batchStart, last, rejected), writer);
+                requests = new ArrayList<>(batchSize);
+                rejected = 0;
+                batchStart = last;
+            }
+        }
+        if (last > batchStart) {
+            put(queue, new ImportBatch(requests, batchStart, last, rejected), writer);
+        }
+        put(queue, ImportBatch.END, writer);
+    }
+
+    // Blocks while the queue is full, but stops waiting as soon as the writer has failed
+    private void put(BlockingQueue<ImportBatch> queue, ImportBatch batch, Future<Void> writer)
+            throws InterruptedException, ExecutionException {
+        do {
+            if (writer.isDone()) {
+                writer.get();
+                throw new IllegalStateException("Import writer stopped before the end of the input");
+            }
+        } while (!queue.offer(batch, 1, TimeUnit.SECONDS));
+    }
+
+    // Consumer side: commits queued batches one transaction at a time until the end marker
+    private Void write(BlockingQueue<ImportBatch> queue, UUID jobId, String username) throws InterruptedException {
+        int committed = 0;
+        for (ImportBatch batch = queue.take(); batch != ImportBatch.END; batch = queue.take()) {
+            ImportBatch current = batch;
+            transactionTemplate.executeWithoutResult(status -> commit(current, jobId, username));
+            if (++committed % PROGRESS_LOG_INTERVAL == 0) {
+                log.info("Import {}: {} records committed", jobId, current.lastRecord());
+            }
+        }
+        return null;
+    }
+
+    private void commit(ImportBatch batch, UUID jobId, String username) {
+        User user = userRepository.findByUsername(username);
+        List<Task> tasks = new ArrayList<>(batch.requests().size());
+        for (CreateTaskRequest request : batch.requests()) {
+            tasks.add(TaskServiceImpl.newTask(idGenerator.newId(), request, user));
+        }
+        taskRepository.insertAll(tasks);
+
+        int advanced = importJobRepository.recordProgress(jobId, batch.afterRecord(), batch.lastRecord(),
+                tasks.size(), batch.rejected(), LocalDateTime.now());
+        if (advanced == 0) {
+            // Another run of this job got here first; roll back rather than import the batch twice
+            throw new IllegalStateException("Import job " + jobId + " is being resumed by another run");
+        }
+        for (Task task : tasks) {
+            eventPublisher.publishEvent(TaskChangedEvent.saved(user.getId(), task));
+        }
+    }
+
+    private void fail(UUID jobId, Throwable cause) {
+        String message = String.valueOf(cause.getMessage());
+        importJobRepository.finish(jobId, ImportStatus.FAILED,
+                message.length() > 1000 ? message.substring(0, 1000) : message, LocalDateTime.now());
+        log.warn("Import {} failed; resume it with the same input and this job id", jobId, cause);
+    }
+
+    private ImportJobDto convertToDto(ImportJob job, List<BulkItemResult> rowErrors) {
+        ImportJobDto dto = new ImportJobDto();
+        dto.setId(job.getId().toString());
+        dto.setFormat(job.getFormat());
+        dto.setStatus(job.getStatus());
+        dto.setProcessedRows(job.getProcessedRows());
+        dto.setImportedTasks(job.getImportedTasks());
+        dto.setFailedRows(job.getFailedRows());
+        dto.setError(job.getError());
+        dto.setCreatedAt(job.getCreatedAt());
+        dto.setUpdatedAt(job.getUpdatedAt());
+        dto.setRowErrors(rowErrors);
+        return dto;
+    }
+
+    // Records afterRecord + 1 to lastRecord of the input, of which the requests are the valid ones
+    private record ImportBatch(List<CreateTaskRequest> requests, long afterRecord, long lastRecord, int rejected) {
+
+        static final ImportBatch END = new ImportBatch(List.of(), -1, -1, 0);
+    }
+}
@@ -0,0 +1,171 @@
+package com.akertesz.task_manager_api.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.akertesz.task_manager_api.config.PurgeProperties;
+import com.akertesz.task_manager_api.repository.ArchivedTaskRepository;
+import com.akertesz.task_manager_api.repository.TaskRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Deletes soft-deleted tasks for good once they are older than app.purge.retention, from the
+ * tasks table and from the archive (where the archive job moves them after a week).
+ *
+ * Rows go in small batches in id order, one short transaction each. Between batches the job
+ * sleeps long enough to stay under maxRowsPerSecond, and when a batch takes longer than
+ * latencyThreshold it takes the database to be under load and waits backoff before going on,
+ * so purging yields to request traffic. Progress is published as tasks.purge.* metrics.
+ */
+@Service
+public class TaskPurgeService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskPurgeService.class);
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final PurgeProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncTaskExecutor executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final Counter purgedTasks;
+    private final Counter purgedArchivedTasks;
+    private final Counter backoffs;
+    private final Timer batchTimer;
+
+    public TaskPurgeService(TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository,
+                            PurgeProperties properties, PlatformTransactionManager transactionManager,
+                            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                            AsyncTaskExecutor executor, MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+
+        purgedTasks = Counter.builder("tasks.purge.rows").tag("table", "tasks")
+                .description("Soft-deleted tasks deleted for good").register(meterRegistry);
+        purgedArchivedTasks = Counter.builder("tasks.purge.rows").tag("table", "archived_tasks")
+                .description("Soft-deleted tasks deleted for good").register(meterRegistry);
+        backoffs = Counter.builder("tasks.purge.backoffs")
+                .description("Pauses taken because a purge batch was slow").register(meterRegistry);
+        batchTimer = Timer.builder("tasks.purge.batch")
+                .description("Time to find and delete one purge batch").register(meterRegistry);
+        Gauge.builder("tasks.purge.running", running, value -> value.get() ? 1 : 0)
+                .description("1 while a purge run is in progress").register(meterRegistry);
+    }
+
+    // Starts a run unless one is still going
+    @Scheduled(initialDelayString = "${app.purge.initial-delay:PT10M}", fixedDelayString = "${app.purge.interval:PT1H}")
+    public void schedulePurge() {
+        if (!properties.isEnabled() || !running.compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                purgeTasks();
+            } catch (RuntimeException e) {
+                log.warn("Task purge run failed; the next run continues where it stopped", e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    /**
+     * Purges every soft-deleted task past retention and returns how many were deleted.
+     */
+    public long purgeTasks() {
+        LocalDateTime deletedBefore = LocalDateTime.now().minus(properties.getRetention());
+        long purged = purge(deletedBefore, taskRepository::findPurgeableIds, taskRepository::purgeByIdIn, purgedTasks);
+        if (!Thread.currentThread().isInterrupted()) {
+            purged += purge(deletedBefore, archivedTaskRepository::findPurgeableIds,
+                    archivedTaskRepository::purgeByIdIn, purgedArchivedTasks);
+        }
+        if (purged > 0) {
+            log.info("Purged {} soft-deleted tasks", purged);
+        }
+        return purged;
+    }
+
+    private long purge(LocalDateTime deletedBefore, PurgeableIds find, Function<List<UUID>, Integer> delete,
+                       Counter counter) {
+        int batchSize = properties.getBatchSize();
+        long purged = 0;
+        UUID afterId = TaskCursor.MIN_ID;
+        while (true) {
+            UUID from = afterId;
+            long start = System.nanoTime();
+            List<UUID> ids = transactionTemplate.execute(status -> {
+                List<UUID> batch = find.apply(from, deletedBefore, Limit.of(batchSize));
+                if (!batch.isEmpty()) {
+                    delete.apply(batch);
+                }
+                return batch;
+            });
+            Duration took = Duration.ofNanos(System.nanoTime() - start);
+            batchTimer.record(took);
+            if (ids.isEmpty()) {
+                break;
+            }
+            purged += ids.size();
+            counter.increment(ids.size());
+            afterId = ids.get(ids.size() - 1);
+            if (ids.size() < batchSize || !pause(ids.size(), took)) {
+                break;
+            }
+        }
+        return purged;
+    }
+
+    /**
+     * Waits before the next batch: at least long enough to keep the batch under the rate cap,
+     * and the backoff if the batch was slow. False if the thread was interrupted (shutdown).
+     */
+    private boolean pause(int rows, Duration took) {
+        Duration delay = Duration.ofNanos(rows * 1_000_000_000L / properties.getMaxRowsPerSecond()).minus(took);
+        if (took.compareTo(properties.getLatencyThreshold()) > 0) {
+            backoffs.increment();
+            log.debug("Purge batch took {} ms; backing off for {}", took.toMillis(), properties.getBackoff());
+            if (properties.getBackoff().compareTo(delay) > 0) {
+                delay = properties.getBackoff();
+            }
+        }
+        if (delay.isNegative() || delay.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(delay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface PurgeableIds {
+
+        List<UUID> apply(UUID afterId, LocalDateTime deletedBefore, Limit limit);
+    }
+}
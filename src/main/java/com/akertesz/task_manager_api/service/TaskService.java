@@ -3,9 +3,14 @@ package com.akertesz.task_manager_api.service;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import com.akertesz.task_manager_api.dto.BulkResponse;
+import com.akertesz.task_manager_api.dto.BulkTaskUpdateRequest;
 import com.akertesz.task_manager_api.dto.CreateTaskRequest;
 import com.akertesz.task_manager_api.dto.TaskDto;
+import com.akertesz.task_manager_api.dto.TaskPage;
+import com.akertesz.task_manager_api.dto.TaskSuggestionDto;
 import com.akertesz.task_manager_api.dto.UpdateTaskRequest;
 import com.akertesz.task_manager_api.model.TaskPriority;
 import com.akertesz.task_manager_api.model.TaskStatus;
@@ -15,11 +20,20 @@ public interface TaskService {
     // Create a new task
     TaskDto createTask(CreateTaskRequest request, String username);
     
+    // Create many tasks at once, reporting the outcome of each item
+    BulkResponse createTasks(List<CreateTaskRequest> requests, String username);
+    
     // Get a task by ID
     TaskDto getTaskById(UUID id, String username);
     
+    // List methods return one keyset page: cursor is null for the first page, limit null for
+    // the configured default page size
+    
     // Get all tasks
-    List<TaskDto> getAllTasks(String username);
+    TaskPage getAllTasks(String username, String cursor, Integer limit);
+    
+    // Visit every task of a user without loading them all at once
+    void forEachTask(String username, Consumer<TaskDto> action);
     
     // Update an existing task
     TaskDto updateTask(UUID id, UpdateTaskRequest request, String username);
@@ -28,22 +42,36 @@ public interface TaskService {
     boolean deleteTask(UUID id, String username);
     
     // Get tasks by status
-    List<TaskDto> getTasksByStatus(TaskStatus status, String username);
+    TaskPage getTasksByStatus(TaskStatus status, String username, String cursor, Integer limit);
     
     // Get tasks by priority
-    List<TaskDto> getTasksByPriority(TaskPriority priority, String username);
+    TaskPage getTasksByPriority(TaskPriority priority, String username, String cursor, Integer limit);
     
     // Get overdue tasks
-    List<TaskDto> getOverdueTasks(String username);
+    TaskPage getOverdueTasks(String username, String cursor, Integer limit);
     
     // Search tasks by title
-    List<TaskDto> searchTasksByTitle(String title, String username);
+    TaskPage searchTasksByTitle(String title, String username, String cursor, Integer limit);
+    
+    // Full-text search over titles and descriptions, best matches first
+    List<TaskDto> searchTasksFullText(String query, int limit, String username);
+    
+    // Typo-tolerant title search, most similar first
+    List<TaskDto> searchTasksFuzzy(String query, int limit, String username);
+    
+    // Title autocompletion, most urgent and most recently changed first
+    List<TaskSuggestionDto> suggestTasks(String prefix, int limit, String username);
     
     // Get tasks created between dates
-    List<TaskDto> getTasksCreatedBetween(LocalDateTime startDate, LocalDateTime endDate, String username);
+    TaskPage getTasksCreatedBetween(LocalDateTime startDate, LocalDateTime endDate, String username,
+                                    String cursor, Integer limit);
     
     // Get tasks ordered by priority and due date
-    List<TaskDto> getTasksOrderedByPriorityAndDueDate(String username);
+    TaskPage getTasksOrderedByPriorityAndDueDate(String username, String cursor, Integer limit);
+    
+    // Fill in the descriptions of a page returned by one of the list methods above, which
+    // leave them null, with one query for the whole page
+    TaskPage includeDescriptions(TaskPage page, String username);
     
     // Change task status
     TaskDto changeTaskStatus(UUID id, TaskStatus status, String username);
@@ -54,6 +82,17 @@ public interface TaskService {
     // Change task priority
     TaskDto changeTaskPriority(UUID id, TaskPriority priority, String username);
     
+    // Bulk operations on the tasks selected by id or filter, reporting the outcome per task
+    
+    // Change the status of many tasks, honoring the status transition rules
+    BulkResponse changeTasksStatus(BulkTaskUpdateRequest request, String username);
+    
+    // Change the priority of many tasks
+    BulkResponse changeTasksPriority(BulkTaskUpdateRequest request, String username);
+    
+    // Delete many tasks
+    BulkResponse deleteTasks(BulkTaskUpdateRequest request, String username);
+    
     // Get task statistics
     TaskStatistics getTaskStatistics(String username);
 }
@@ -1,59 +1,141 @@
 package com.akertesz.task_manager_api.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.akertesz.task_manager_api.config.PaginationProperties;
+import com.akertesz.task_manager_api.dto.BulkItemResult;
+import com.akertesz.task_manager_api.dto.BulkItemStatus;
+import com.akertesz.task_manager_api.dto.BulkResponse;
+import com.akertesz.task_manager_api.dto.BulkTaskFilter;
+import com.akertesz.task_manager_api.dto.BulkTaskUpdateRequest;
 import com.akertesz.task_manager_api.dto.CreateTaskRequest;
 import com.akertesz.task_manager_api.dto.TaskDto;
+import com.akertesz.task_manager_api.dto.TaskPage;
+import com.akertesz.task_manager_api.dto.TaskSuggestionDto;
 import com.akertesz.task_manager_api.dto.UpdateTaskRequest;
+import com.akertesz.task_manager_api.exception.InvalidRequestException;
 import com.akertesz.task_manager_api.exception.TaskNotFoundException;
 import com.akertesz.task_manager_api.exception.UserNotFoundException;
-import com.akertesz.task_manager_api.exception.InvalidRequestException;
+import com.akertesz.task_manager_api.id.IdGenerator;
 import com.akertesz.task_manager_api.model.Task;
 import com.akertesz.task_manager_api.model.TaskPriority;
 import com.akertesz.task_manager_api.model.TaskStatus;
 import com.akertesz.task_manager_api.model.User;
+import com.akertesz.task_manager_api.repository.TaskDescriptionRow;
 import com.akertesz.task_manager_api.repository.TaskRepository;
+import com.akertesz.task_manager_api.repository.TaskStatusRow;
 import com.akertesz.task_manager_api.repository.UserRepository;
+import com.akertesz.task_manager_api.search.FullTextSearchService;
+import com.akertesz.task_manager_api.search.FuzzySearchService;
+import com.akertesz.task_manager_api.search.SearchHit;
+import com.akertesz.task_manager_api.search.SuggestionService;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 
 @Service
 public class TaskServiceImpl implements TaskService {
     
+    private static final String ID_CURSOR = "id";
+    private static final String DUE_DATE_CURSOR = "due";
+    private static final String CREATED_AT_CURSOR = "created";
+    private static final String PRIORITY_CURSOR = "priority";
+    
+    // Ids per IN list of a bulk operation, well under SQL Server's limit of 2100 parameters
+    private static final int MAX_IN_LIST_SIZE = 1000;
+    // Most tasks a single bulk filter may select
+    private static final int MAX_BULK_FILTER_MATCHES = 10_000;
+    
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FullTextSearchService fullTextSearchService;
+    private final FuzzySearchService fuzzySearchService;
+    private final SuggestionService suggestionService;
+    private final PaginationProperties pagination;
+    private final Validator validator;
+    private final IdGenerator idGenerator;
     @Autowired
-    public TaskServiceImpl(TaskRepository taskRepository, UserRepository userRepository) {
+    public TaskServiceImpl(TaskRepository taskRepository, UserRepository userRepository,
+                           ApplicationEventPublisher eventPublisher, FullTextSearchService fullTextSearchService,
+                           FuzzySearchService fuzzySearchService, SuggestionService suggestionService,
+                           PaginationProperties pagination, Validator validator, IdGenerator idGenerator) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.fullTextSearchService = fullTextSearchService;
+        this.fuzzySearchService = fuzzySearchService;
+        this.suggestionService = suggestionService;
+        this.pagination = pagination;
+        this.validator = validator;
+        this.idGenerator = idGenerator;
     }
     
     @Override
+    @Transactional
     public TaskDto createTask(CreateTaskRequest request, String username) {
         User user = userRepository.findByUsername(username);
         if (user == null) {
             throw new UserNotFoundException("User not found: " + username);
         }
         
-        Task task = new Task();
-        task.setId(UUID.randomUUID());
-        task.setTitle(request.getTitle());
-        task.setDescription(request.getDescription());
-        task.setPriority(request.getPriority());
-        task.setDueDate(request.getDueDate());
-        task.setStatus(TaskStatus.PENDING);
-        task.setUser(user);
+        Task task = newTask(idGenerator.newId(), request, user);
         Task savedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.saved(user.getId(), savedTask));
         return convertToDto(savedTask);
     }
     
     @Override
+    @Transactional
+    public BulkResponse createTasks(List<CreateTaskRequest> requests, String username) {
+        User user = userRepository.findByUsername(username);
+        if (user == null) {
+            throw new UserNotFoundException("User not found: " + username);
+        }
+        
+        // Invalid items are reported and skipped; the valid ones are inserted together
+        List<BulkItemResult> results = new ArrayList<>(requests.size());
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            CreateTaskRequest request = requests.get(i);
+            Map<String, String> errors = validate(validator, request);
+            if (!errors.isEmpty()) {
+                results.add(new BulkItemResult(i, null, BulkItemStatus.INVALID, errors));
+                continue;
+            }
+            Task task = newTask(idGenerator.newId(), request, user);
+            tasks.add(task);
+            results.add(new BulkItemResult(i, task.getId().toString(), BulkItemStatus.CREATED, null));
+        }
+        
+        taskRepository.insertAll(tasks);
+        for (Task task : tasks) {
+            eventPublisher.publishEvent(TaskChangedEvent.saved(user.getId(), task));
+        }
+        return new BulkResponse(tasks.size(), requests.size() - tasks.size(), results);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
     public TaskDto getTaskById(UUID id, String username) {
         User user = userRepository.findByUsername(username);
         if (user == null) {
@@ -66,18 +148,34 @@ public class TaskServiceImpl implements TaskService {
     }
     
     @Override
-    public List<TaskDto> getAllTasks(String username) {
+    @Transactional(readOnly = true)
+    public TaskPage getAllTasks(String username, String cursor, Integer limit) {
         User user = userRepository.findByUsername(username);
         if (user == null) {
             throw new UserNotFoundException("User not found: " + username);
         }
         
-        return taskRepository.findByUserAndIsDeletedFalse(user).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        int pageSize = pagination.resolvePageSize(limit);
+        List<TaskDto> rows = taskRepository.findDtoPageByUser(user, afterId(cursor), Limit.of(pageSize + 1));
+        return toPage(rows, pageSize, TaskServiceImpl::idCursor);
     }
     
     @Override
+    @Transactional(readOnly = true)
+    public void forEachTask(String username, Consumer<TaskDto> action) {
+        User user = userRepository.findByUsername(username);
+        if (user == null) {
+            throw new UserNotFoundException("User not found: " + username);
+        }
+        
+        try (Stream<TaskDto> tasks = taskRepository.streamDtosByUser(user)) {
+            tasks.forEach(action);
+        }
+    }
+    
+    @Override
+    @RetryOnConflict
+    @Transactional
     public TaskDto updateTask(UUID id, UpdateTaskRequest request, String username) {
         User user = userRepository.findByUsername(username);
         if (user == null) {
@@ -90,8 +188,11 @@ public class TaskServiceImpl implements TaskService {
         if (request.getTitle() != null) {
             task.setTitle(request.getTitle());
         }
-        if (request.getDescription() != null) {
+        if (request.getDescription() != null && !request.getDescription().equals(task.getDescription())) {
             task.setDescription(request.getDescription());
+            // The description lives in task_descriptions; touch the task itself so the change
+            // still moves updated_at and the version
+            task.setUpdatedAt(LocalDateTime.now());
         }
         if (request.getPriority() != null) {
             task.setPriority(request.getPriority());
@@ -104,10 +205,12 @@ public class TaskServiceImpl implements TaskService {
         }
         task.setUser(user);
         Task updatedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.saved(user.getId(), updatedTask));
         return convertToDto(updatedTask);
     }
     
     @Override
+    @Transactional
     public boolean deleteTask(UUID id, String username) {
         User user = userRepository.findByUsername(username);
         if (user == null) {
@@ -117,83 +220,190 @@ public class TaskServiceImpl implements TaskService {
         Task task = taskRepository.findByIdAndUserAndIsDeletedFalse(id, user)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + id));
         
-        taskRepository.deleteTask(id, user);
+        taskRepository.deleteTask(id, LocalDateTime.now(), user);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(user.getId(), id));
         return true;
     }
     
     @Override
-    public List<TaskDto> getTasksByStatus(TaskStatus status, String username) {
+    @Transactional(readOnly = true)
+    public TaskPage getTasksByStatus(TaskStatus status, String username, String cursor, Integer limit) {
         User user = userRepository.findByUsername(username);
         if (user == null) {
             throw new UserNotFoundException("User not found: " + username);
         }
         
-        return taskRepository.findByStatusAndUserAndIsDeletedFalse(status, user).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        int pageSize = pagination.resolvePageSize(limit);
+        List<TaskDto> rows = taskRepository.findDtoPageByStatusAndUser(status, user, afterId(cursor),
+                Limit.of(pageSize + 1));
+        return toPage(rows, pageSize, TaskServiceImpl::idCursor);
     }
     
     @Override
-    public List<TaskDto> getTasksByPriority(TaskPriority priority, String username) {
+    @Transactional(readOnly = true)
+    public TaskPage getTasksByPriority(TaskPriority priority, String username, String cursor, Integer limit) {
         User user = userRepository.findByUsername(username);
         if (user == null) {
             throw new UserNotFoundException("User not found: " + username);
         }
         
-        return taskRepository.findByPriorityAndUserAndIsDeletedFalse(priority, user).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        int pageSize = pagination.resolvePageSize(limit);
+        List<TaskDto> rows = taskRepository.findDtoPageByPriorityAndUser(priority, user, afterId(cursor),
+                Limit.of(pageSize + 1));
+        return toPage(rows, pageSize, TaskServiceImpl::idCursor);
     }
     
     @Override
-    public List<TaskDto> getOverdueTasks(String username) {
+    @Transactional(readOnly = true)
+    public TaskPage getOverdueTasks(String username, String cursor, Integer limit) {
         User user = userRepository.findByUsername(username);
         if (user == null) {
             throw new UserNotFoundException("User not found: " + username);
         }
         
-        return taskRepository.findByDueDateBeforeAndUserAndIsDeletedFalse(LocalDateTime.now(), user).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        int pageSize = pagination.resolvePageSize(limit);
+        LocalDateTime afterDueDate = TaskCursor.MIN_DATE_TIME;
+        UUID afterId = TaskCursor.MIN_ID;
+        if (cursor != null) {
+            TaskCursor after = TaskCursor.decode(cursor, DUE_DATE_CURSOR, 2);
+            afterDueDate = after.dateTime(0);
+            afterId = after.uuid(1);
+        }
+        List<TaskDto> rows = taskRepository.findOverdueDtoPageByUser(LocalDateTime.now(), user, afterDueDate, afterId,
+                Limit.of(pageSize + 1));
+        return toPage(rows, pageSize, task -> TaskCursor.encode(DUE_DATE_CURSOR, task.getDueDate(), task.getId()));
     }
     
     @Override
-    public List<TaskDto> searchTasksByTitle(String title, String username) {
+    @Transactional(readOnly = true)
+    public TaskPage searchTasksByTitle(String title, String username, String cursor, Integer limit) {
         User user = userRepository.findByUsername(username);
         if (user == null) {
             throw new UserNotFoundException("User not found: " + username);
         }
         
-        return taskRepository.findByTitleContainingIgnoreCaseAndUserAndIsDeletedFalse(title, user).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        int pageSize = pagination.resolvePageSize(limit);
+        List<TaskDto> rows = taskRepository.findDtoPageByTitleLikeAndUser(containsPattern(title), user, afterId(cursor),
+                Limit.of(pageSize + 1));
+        return toPage(rows, pageSize, TaskServiceImpl::idCursor);
     }
     
     @Override
-    public List<TaskDto> getTasksCreatedBetween(LocalDateTime startDate, LocalDateTime endDate, String username) {
+    @Transactional(readOnly = true)
+    public List<TaskDto> searchTasksFullText(String query, int limit, String username) {
         User user = userRepository.findByUsername(username);
         if (user == null) {
             throw new UserNotFoundException("User not found: " + username);
         }
         
-        return taskRepository.findByCreatedAtBetweenAndUserAndIsDeletedFalse(startDate, endDate, user).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        List<UUID> rankedIds = fullTextSearchService.search(user, query, limit).stream()
+                .map(SearchHit::taskId)
+                .toList();
+        return findDtosInOrder(rankedIds, user);
     }
     
     @Override
-    public List<TaskDto> getTasksOrderedByPriorityAndDueDate(String username) {
+    @Transactional(readOnly = true)
+    public List<TaskDto> searchTasksFuzzy(String query, int limit, String username) {
         User user = userRepository.findByUsername(username);
         if (user == null) {
             throw new UserNotFoundException("User not found: " + username);
         }
         
-        return taskRepository.findAllOrderByPriorityAndDueDateAndUserAndIsDeletedFalse(user).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        List<UUID> rankedIds = fuzzySearchService.search(user, query, limit).stream()
+                .map(SearchHit::taskId)
+                .toList();
+        return findDtosInOrder(rankedIds, user);
     }
     
     @Override
+    @Transactional(readOnly = true)
+    public List<TaskSuggestionDto> suggestTasks(String prefix, int limit, String username) {
+        User user = userRepository.findByUsername(username);
+        if (user == null) {
+            throw new UserNotFoundException("User not found: " + username);
+        }
+        
+        return suggestionService.suggest(user, prefix, limit).stream()
+                .map(suggestion -> new TaskSuggestionDto(suggestion.taskId().toString(), suggestion.title(),
+                        suggestion.priority()))
+                .toList();
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPage getTasksCreatedBetween(LocalDateTime startDate, LocalDateTime endDate, String username,
+                                           String cursor, Integer limit) {
+        User user = userRepository.findByUsername(username);
+        if (user == null) {
+            throw new UserNotFoundException("User not found: " + username);
+        }
+        
+        int pageSize = pagination.resolvePageSize(limit);
+        LocalDateTime afterCreatedAt = startDate;
+        UUID afterId = TaskCursor.MIN_ID;
+        if (cursor != null) {
+            TaskCursor after = TaskCursor.decode(cursor, CREATED_AT_CURSOR, 2);
+            afterCreatedAt = after.dateTime(0);
+            afterId = after.uuid(1);
+        }
+        List<TaskDto> rows = taskRepository.findDtoPageByCreatedAtBetweenAndUser(startDate, endDate, user,
+                afterCreatedAt, afterId, Limit.of(pageSize + 1));
+        return toPage(rows, pageSize, task -> TaskCursor.encode(CREATED_AT_CURSOR, task.getCreatedAt(), task.getId()));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPage getTasksOrderedByPriorityAndDueDate(String username, String cursor, Integer limit) {
+        User user = userRepository.findByUsername(username);
+        if (user == null) {
+            throw new UserNotFoundException("User not found: " + username);
+        }
+        
+        int pageSize = pagination.resolvePageSize(limit);
+        List<TaskDto> rows;
+        if (cursor == null) {
+            // Rank -1 sorts before every task, so this is the first page
+            rows = taskRepository.findOrderedDtoPageAfterDueDate(user, -1, TaskCursor.MIN_DATE_TIME, TaskCursor.MIN_ID,
+                    Limit.of(pageSize + 1));
+        } else {
+            TaskCursor after = TaskCursor.decode(cursor, PRIORITY_CURSOR, 3);
+            LocalDateTime afterDueDate = after.optionalDateTime(1);
+            rows = afterDueDate != null
+                    ? taskRepository.findOrderedDtoPageAfterDueDate(user, after.integer(0), afterDueDate, after.uuid(2),
+                            Limit.of(pageSize + 1))
+                    : taskRepository.findOrderedDtoPageAfterNullDueDate(user, after.integer(0), after.uuid(2),
+                            Limit.of(pageSize + 1));
+        }
+        return toPage(rows, pageSize, task -> TaskCursor.encode(PRIORITY_CURSOR,
+                task.getPriority() != null ? task.getPriority().getRank() : 0, task.getDueDate(), task.getId()));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPage includeDescriptions(TaskPage page, String username) {
+        if (page.getTasks().isEmpty()) {
+            return page;
+        }
+        User user = userRepository.findByUsername(username);
+        if (user == null) {
+            throw new UserNotFoundException("User not found: " + username);
+        }
+        
+        List<UUID> ids = page.getTasks().stream().map(task -> UUID.fromString(task.getId())).toList();
+        Map<String, String> descriptions = new HashMap<>();
+        for (TaskDescriptionRow row : taskRepository.findDescriptionRowsByIdInAndUser(ids, user)) {
+            descriptions.put(row.id().toString(), row.description());
+        }
+        for (TaskDto task : page.getTasks()) {
+            task.setDescription(descriptions.get(task.getId()));
+        }
+        return page;
+    }
+    
+    @Override
+    @RetryOnConflict
+    @Transactional
     public TaskDto changeTaskStatus(UUID id, TaskStatus status, String username) {
         User user = userRepository.findByUsername(username);
         if (user == null) {
@@ -205,6 +415,7 @@ public class TaskServiceImpl implements TaskService {
         
         task.setStatus(status);
         Task updatedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.saved(user.getId(), updatedTask));
         return convertToDto(updatedTask);
     }
     
@@ -233,6 +444,8 @@ public class TaskServiceImpl implements TaskService {
      * @throws InvalidRequestException if the status transition is not allowed
      */
     @Override
+    @RetryOnConflict
+    @Transactional
     public TaskDto changeTaskStatusWithValidation(UUID id, TaskStatus newStatus, String username) {
         User user = userRepository.findByUsername(username);
         if (user == null) {
@@ -246,10 +459,7 @@ public class TaskServiceImpl implements TaskService {
         
         // Validate state transition
         if (!isValidStatusTransition(currentStatus, newStatus)) {
-            throw new InvalidRequestException(
-                String.format("Invalid status transition from %s to %s. Allowed transitions: %s", 
-                    currentStatus, newStatus, getValidTransitions(currentStatus))
-            );
+            throw new InvalidRequestException(invalidTransitionMessage(currentStatus, newStatus));
         }
         
         // Apply the new status
@@ -259,6 +469,7 @@ public class TaskServiceImpl implements TaskService {
         // The status change is sufficient to track the current state
         
         Task updatedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.saved(user.getId(), updatedTask));
         return convertToDto(updatedTask);
     }
     
@@ -297,6 +508,11 @@ public class TaskServiceImpl implements TaskService {
         }
     }
     
+    private String invalidTransitionMessage(TaskStatus currentStatus, TaskStatus newStatus) {
+        return String.format("Invalid status transition from %s to %s. Allowed transitions: %s",
+                currentStatus, newStatus, getValidTransitions(currentStatus));
+    }
+    
     /**
      * Returns a list of valid status transitions for the current status
      */
@@ -316,6 +532,8 @@ public class TaskServiceImpl implements TaskService {
     }
     
     @Override
+    @RetryOnConflict
+    @Transactional
     public TaskDto changeTaskPriority(UUID id, TaskPriority priority, String username) {
         User user = userRepository.findByUsername(username);
         if (user == null) {
@@ -328,10 +546,113 @@ public class TaskServiceImpl implements TaskService {
         task.setPriority(priority);
         task.setUser(user);
         Task updatedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.saved(user.getId(), updatedTask));
         return convertToDto(updatedTask);
     }
     
+    /**
+     * Changes the status of many tasks following the same transition rules as
+     * changeTaskStatusWithValidation. Tasks that may not move to the new status are reported
+     * as INVALID_TRANSITION; the others are updated a thousand ids per statement.
+     */
+    @Override
+    @Transactional
+    public BulkResponse changeTasksStatus(BulkTaskUpdateRequest request, String username) {
+        User user = userRepository.findByUsername(username);
+        if (user == null) {
+            throw new UserNotFoundException("User not found: " + username);
+        }
+        TaskStatus newStatus = request.getStatus();
+        if (newStatus == null) {
+            throw new InvalidRequestException("Status is required");
+        }
+        
+        List<BulkItemResult> results = new ArrayList<>();
+        List<UUID> updated = new ArrayList<>();
+        for (BulkTarget target : findBulkTargets(request, user, results)) {
+            if (isValidStatusTransition(target.status(), newStatus)) {
+                updated.add(target.id());
+                results.add(new BulkItemResult(target.index(), target.id().toString(), BulkItemStatus.UPDATED, null));
+            } else {
+                results.add(new BulkItemResult(target.index(), target.id().toString(),
+                        BulkItemStatus.INVALID_TRANSITION,
+                        Map.of("status", invalidTransitionMessage(target.status(), newStatus))));
+            }
+        }
+        
+        // The targets are locked, so their statuses are still the ones checked above; the UPDATE
+        // is restricted to the allowed source statuses as well so the rules hold in SQL too
+        List<TaskStatus> fromStatuses = Arrays.stream(TaskStatus.values())
+                .filter(status -> isValidStatusTransition(status, newStatus))
+                .toList();
+        LocalDateTime now = LocalDateTime.now();
+        int changed = 0;
+        for (List<UUID> chunk : chunks(updated)) {
+            changed += taskRepository.updateStatusByIdIn(chunk, fromStatuses, newStatus, now, user);
+        }
+        requireAllChanged(changed, updated.size());
+        publishSaved(updated, user);
+        return bulkResponse(updated.size(), results);
+    }
+    
+    @Override
+    @Transactional
+    public BulkResponse changeTasksPriority(BulkTaskUpdateRequest request, String username) {
+        User user = userRepository.findByUsername(username);
+        if (user == null) {
+            throw new UserNotFoundException("User not found: " + username);
+        }
+        TaskPriority priority = request.getPriority();
+        if (priority == null) {
+            throw new InvalidRequestException("Priority is required");
+        }
+        
+        List<BulkItemResult> results = new ArrayList<>();
+        List<UUID> updated = new ArrayList<>();
+        for (BulkTarget target : findBulkTargets(request, user, results)) {
+            updated.add(target.id());
+            results.add(new BulkItemResult(target.index(), target.id().toString(), BulkItemStatus.UPDATED, null));
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        int changed = 0;
+        for (List<UUID> chunk : chunks(updated)) {
+            changed += taskRepository.updatePriorityByIdIn(chunk, priority, now, user);
+        }
+        requireAllChanged(changed, updated.size());
+        publishSaved(updated, user);
+        return bulkResponse(updated.size(), results);
+    }
+    
     @Override
+    @Transactional
+    public BulkResponse deleteTasks(BulkTaskUpdateRequest request, String username) {
+        User user = userRepository.findByUsername(username);
+        if (user == null) {
+            throw new UserNotFoundException("User not found: " + username);
+        }
+        
+        List<BulkItemResult> results = new ArrayList<>();
+        List<UUID> deleted = new ArrayList<>();
+        for (BulkTarget target : findBulkTargets(request, user, results)) {
+            deleted.add(target.id());
+            results.add(new BulkItemResult(target.index(), target.id().toString(), BulkItemStatus.DELETED, null));
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        int changed = 0;
+        for (List<UUID> chunk : chunks(deleted)) {
+            changed += taskRepository.softDeleteByIdIn(chunk, now, user);
+        }
+        requireAllChanged(changed, deleted.size());
+        for (UUID id : deleted) {
+            eventPublisher.publishEvent(TaskChangedEvent.deleted(user.getId(), id));
+        }
+        return bulkResponse(deleted.size(), results);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
     public TaskStatistics getTaskStatistics(String username) {
         User user = userRepository.findByUsername(username);
         if (user == null) {
@@ -343,7 +664,7 @@ public class TaskServiceImpl implements TaskService {
         long inProgressTasks = taskRepository.countByStatusAndUserAndIsDeletedFalse(TaskStatus.IN_PROGRESS, user);
         long completedTasks = taskRepository.countByStatusAndUserAndIsDeletedFalse(TaskStatus.COMPLETED, user);
         long cancelledTasks = taskRepository.countByStatusAndUserAndIsDeletedFalse(TaskStatus.CANCELLED, user);
-        long overdueTasks = taskRepository.findByDueDateBeforeAndUserAndIsDeletedFalse(LocalDateTime.now(), user).size();
+        long overdueTasks = taskRepository.countOverdueTasksByUser(LocalDateTime.now(), user);
         
         // Create maps for tasks by status and priority
         Map<TaskStatus, Long> tasksByStatus = Map.of(
@@ -354,15 +675,197 @@ public class TaskServiceImpl implements TaskService {
         );
         
         Map<TaskPriority, Long> tasksByPriority = Map.of(
-            TaskPriority.URGENT, (long) taskRepository.findByPriorityAndUserAndIsDeletedFalse(TaskPriority.URGENT, user).size(),
-            TaskPriority.HIGH, (long) taskRepository.findByPriorityAndUserAndIsDeletedFalse(TaskPriority.HIGH, user).size(),
-            TaskPriority.MEDIUM, (long) taskRepository.findByPriorityAndUserAndIsDeletedFalse(TaskPriority.MEDIUM, user).size(),
-            TaskPriority.LOW, (long) taskRepository.findByPriorityAndUserAndIsDeletedFalse(TaskPriority.LOW, user).size()
+            TaskPriority.URGENT, taskRepository.countByPriorityAndUserAndIsDeletedFalse(TaskPriority.URGENT, user),
+            TaskPriority.HIGH, taskRepository.countByPriorityAndUserAndIsDeletedFalse(TaskPriority.HIGH, user),
+            TaskPriority.MEDIUM, taskRepository.countByPriorityAndUserAndIsDeletedFalse(TaskPriority.MEDIUM, user),
+            TaskPriority.LOW, taskRepository.countByPriorityAndUserAndIsDeletedFalse(TaskPriority.LOW, user)
         );
         
         return new TaskStatistics(totalTasks, completedTasks, pendingTasks, inProgressTasks, cancelledTasks, overdueTasks, tasksByStatus, tasksByPriority);
     }
     
+    static Task newTask(UUID id, CreateTaskRequest request, User user) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle(request.getTitle());
+        task.setDescription(request.getDescription());
+        task.setPriority(request.getPriority());
+        task.setDueDate(request.getDueDate());
+        task.setStatus(TaskStatus.PENDING);
+        task.setUser(user);
+        return task;
+    }
+    
+    // Field errors of one bulk or imported item, keyed by property path as in validation error responses
+    static Map<String, String> validate(Validator validator, CreateTaskRequest request) {
+        Map<String, String> errors = new HashMap<>();
+        if (request == null) {
+            errors.put("task", "Task is required");
+            return errors;
+        }
+        for (ConstraintViolation<CreateTaskRequest> violation : validator.validate(request)) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+    
+    // A live task selected by a bulk request, with its position in the request (or in the
+    // filter's matches) and its status when it was read
+    private record BulkTarget(int index, UUID id, TaskStatus status) {}
+    
+    /**
+     * Resolves the tasks a bulk request selects, by ids or by filter, to their current status.
+     * The selected rows stay locked until the transaction ends, so the outcome decided for
+     * each of them is the one the bulk UPDATE applies. Ids that are malformed or do not name
+     * a live task of the user are reported into results instead; an id given more than once
+     * is handled once, at its first position.
+     */
+    private List<BulkTarget> findBulkTargets(BulkTaskUpdateRequest request, User user, List<BulkItemResult> results) {
+        List<String> ids = request.getIds();
+        BulkTaskFilter filter = request.getFilter();
+        boolean byIds = ids != null && !ids.isEmpty();
+        boolean byFilter = filter != null && !filter.isEmpty();
+        if (byIds == byFilter) {
+            throw new InvalidRequestException("Either task ids or a filter is required, but not both");
+        }
+        
+        if (byFilter) {
+            List<TaskStatusRow> rows = taskRepository.findStatusRowsByFilter(user, filter.getStatus(),
+                    filter.getPriority(), filter.getDueBefore(), Limit.of(MAX_BULK_FILTER_MATCHES + 1));
+            if (rows.size() > MAX_BULK_FILTER_MATCHES) {
+                throw new InvalidRequestException("Filter matches more than " + MAX_BULK_FILTER_MATCHES + " tasks");
+            }
+            List<BulkTarget> targets = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                targets.add(new BulkTarget(i, rows.get(i).id(), rows.get(i).status()));
+            }
+            return targets;
+        }
+        
+        Map<UUID, Integer> positions = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            UUID id = parseId(ids.get(i));
+            if (id == null) {
+                results.add(new BulkItemResult(i, ids.get(i), BulkItemStatus.INVALID,
+                        Map.of("id", "Invalid task ID format")));
+            } else {
+                positions.putIfAbsent(id, i);
+            }
+        }
+        Map<UUID, TaskStatus> statuses = new HashMap<>();
+        for (List<UUID> chunk : chunks(new ArrayList<>(positions.keySet()))) {
+            for (TaskStatusRow row : taskRepository.findStatusRowsByIdInAndUser(chunk, user)) {
+                statuses.put(row.id(), row.status());
+            }
+        }
+        List<BulkTarget> targets = new ArrayList<>(statuses.size());
+        for (Map.Entry<UUID, Integer> position : positions.entrySet()) {
+            TaskStatus status = statuses.get(position.getKey());
+            if (status == null) {
+                results.add(new BulkItemResult(position.getValue(), position.getKey().toString(),
+                        BulkItemStatus.NOT_FOUND, null));
+            } else {
+                targets.add(new BulkTarget(position.getValue(), position.getKey(), status));
+            }
+        }
+        return targets;
+    }
+    
+    private static UUID parseId(String id) {
+        if (id == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
+    private static <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += MAX_IN_LIST_SIZE) {
+            chunks.add(items.subList(from, Math.min(from + MAX_IN_LIST_SIZE, items.size())));
+        }
+        return chunks;
+    }
+    
+    // The targets were locked when read, so every row of every bulk UPDATE must change. Failing
+    // otherwise rolls back rather than reporting and publishing changes that did not happen.
+    private static void requireAllChanged(int changed, int expected) {
+        if (changed != expected) {
+            throw new IllegalStateException("Bulk operation changed " + changed + " of " + expected + " tasks");
+        }
+    }
+    
+    // Bulk UPDATEs bypass the entity lifecycle, so changed tasks are re-read for the listeners
+    private void publishSaved(List<UUID> ids, User user) {
+        for (List<UUID> chunk : chunks(ids)) {
+            for (TaskDto task : taskRepository.findDtosByIdInAndUser(chunk, user)) {
+                eventPublisher.publishEvent(TaskChangedEvent.saved(user.getId(), task));
+            }
+        }
+    }
+    
+    private BulkResponse bulkResponse(int succeeded, List<BulkItemResult> results) {
+        results.sort(Comparator.comparingInt(BulkItemResult::getIndex));
+        return new BulkResponse(succeeded, results.size() - succeeded, results);
+    }
+    
+    private UUID afterId(String cursor) {
+        return cursor == null ? TaskCursor.MIN_ID : TaskCursor.decode(cursor, ID_CURSOR, 1).uuid(0);
+    }
+    
+    private static String idCursor(TaskDto task) {
+        return TaskCursor.encode(ID_CURSOR, task.getId());
+    }
+    
+    /**
+     * Trims a result fetched with one row more than the page size to the page, and derives
+     * the next cursor from its last task if that extra row was there
+     */
+    private TaskPage toPage(List<TaskDto> rows, int pageSize, Function<TaskDto, String> cursorOf) {
+        if (rows.size() <= pageSize) {
+            return new TaskPage(rows, null);
+        }
+        List<TaskDto> page = new ArrayList<>(rows.subList(0, pageSize));
+        return new TaskPage(page, cursorOf.apply(page.get(pageSize - 1)));
+    }
+    
+    /**
+     * Loads the given tasks as DTOs in one query and returns them in the order of the ids,
+     * skipping ids that no longer resolve to a live task of the user
+     */
+    private List<TaskDto> findDtosInOrder(List<UUID> ids, User user) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<String, TaskDto> byId = new HashMap<>();
+        for (TaskDto dto : taskRepository.findDtosByIdInAndUser(ids, user)) {
+            byId.put(dto.getId(), dto);
+        }
+        List<TaskDto> ordered = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            TaskDto dto = byId.get(id.toString());
+            if (dto != null) {
+                ordered.add(dto);
+            }
+        }
+        return ordered;
+    }
+    
+    /**
+     * Builds a case-insensitive "contains" LIKE pattern, escaping LIKE wildcards with '!'
+     * so user input is matched literally (as the derived ContainingIgnoreCase query did)
+     */
+    private String containsPattern(String text) {
+        String escaped = text.toLowerCase(Locale.ROOT)
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+    
     private TaskDto convertToDto(Task task) {
         if (task == null) {
             throw new IllegalArgumentException("Task cannot be null");
@@ -1,7 +1,6 @@
 package com.akertesz.task_manager_api.service;
 
 import java.util.Optional;
-import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -16,6 +15,7 @@ import com.akertesz.task_manager_api.dto.LoginRequest;
 import com.akertesz.task_manager_api.dto.LoginResponse;
 import com.akertesz.task_manager_api.dto.RegisterRequest;
 import com.akertesz.task_manager_api.exception.InvalidRequestException;
+import com.akertesz.task_manager_api.id.IdGenerator;
 import com.akertesz.task_manager_api.model.User;
 import com.akertesz.task_manager_api.repository.UserRepository;
 
@@ -34,6 +34,9 @@ public class UserService {
     @Autowired
     private AuthenticationManager authenticationManager;
     
+    @Autowired
+    private IdGenerator idGenerator;
+    
     public LoginResponse login(LoginRequest loginRequest) {
         // Validate input parameters
         if (loginRequest == null) {
@@ -102,7 +105,7 @@ public class UserService {
         
         // Create new user
         User user = new User();
-        user.setId(UUID.randomUUID());
+        user.setId(idGenerator.newId());
         user.setUsername(username);
         user.setEmail(email);
         user.setPassword(passwordEncoder.encode(password));
@@ -0,0 +1,33 @@
+-- Schema of the first release (H2, used by the dev profile and the tests); later versions
+-- follow the same steps as the MySQL and SQL Server sets
+
+create table app_user (
+    id binary(16) not null,
+    username varchar(100) not null,
+    password varchar(255) not null,
+    email varchar(255) not null,
+    enabled boolean not null,
+    account_non_expired boolean not null,
+    account_non_locked boolean not null,
+    credentials_non_expired boolean not null,
+    version bigint not null,
+    constraint pk_app_user primary key (id),
+    constraint uk_app_user_username unique (username),
+    constraint uk_app_user_email unique (email)
+);
+
+create table tasks (
+    id binary(16) not null,
+    title varchar(255) not null,
+    description varchar(1000),
+    status enum('PENDING','IN_PROGRESS','COMPLETED','CANCELLED') not null,
+    priority enum('LOW','MEDIUM','HIGH','URGENT') not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    due_date timestamp(6),
+    user_id binary(16) not null,
+    is_deleted boolean not null,
+    version bigint not null,
+    constraint pk_tasks primary key (id),
+    constraint fk_tasks_user foreign key (user_id) references app_user (id)
+);
@@ -0,0 +1,17 @@
+-- Progress of the streaming task imports (ImportJob), one row per upload. Created after V2, so
+-- the foreign key always meets a binary(16) app_user.id, also in converted databases.
+
+create table import_jobs (
+    id binary(16) not null,
+    user_id binary(16) not null,
+    format enum('CSV','NDJSON') not null,
+    status enum('RUNNING','COMPLETED','FAILED') not null,
+    processed_rows bigint not null,
+    imported_tasks bigint not null,
+    failed_rows bigint not null,
+    error varchar(1000),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    constraint pk_import_jobs primary key (id),
+    constraint fk_import_jobs_user foreign key (user_id) references app_user (id)
+);
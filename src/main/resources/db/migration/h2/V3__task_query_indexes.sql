@@ -0,0 +1,10 @@
+-- Secondary indexes of tasks, one per access path of TaskRepository; see the MySQL set in
+-- db/migration/mysql/V3__task_query_indexes.sql for what each index serves.
+-- H2 has no partial indexes, so is_deleted is the second key column as on MySQL.
+
+create index idx_tasks_user_deleted_status_due on tasks (user_id, is_deleted, status, due_date, id);
+create index idx_tasks_user_deleted_rank_due on tasks (user_id, is_deleted, priority_rank, due_date, id);
+create index idx_tasks_user_deleted_id on tasks (user_id, is_deleted, id);
+create index idx_tasks_user_deleted_status_id on tasks (user_id, is_deleted, status, id);
+create index idx_tasks_user_deleted_priority_id on tasks (user_id, is_deleted, priority, id);
+create index idx_tasks_user_deleted_created on tasks (user_id, is_deleted, created_at, id);
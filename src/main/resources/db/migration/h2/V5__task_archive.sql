@@ -0,0 +1,24 @@
+-- Soft-delete time of tasks, and the archive table the archive job moves old tasks into
+
+alter table tasks add column deleted_at timestamp(6);
+
+create table archived_tasks (
+    id binary(16) not null,
+    user_id binary(16) not null,
+    title varchar(255) not null,
+    description varchar(1000),
+    status smallint not null,
+    priority smallint not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    due_date timestamp(6),
+    deleted boolean not null,
+    deleted_at timestamp(6),
+    archived_at timestamp(6) not null,
+    constraint pk_archived_tasks primary key (id),
+    constraint ck_archived_tasks_status check (status between 1 and 4),
+    constraint ck_archived_tasks_priority check (priority between 1 and 4)
+);
+
+-- Archive pages of a user, in id order
+create index idx_archived_tasks_user_deleted_id on archived_tasks (user_id, deleted, id);
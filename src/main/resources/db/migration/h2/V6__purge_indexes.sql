@@ -0,0 +1,3 @@
+-- Soft-deleted rows in id order, for the purge job's keyset batches
+create index idx_tasks_deleted_id on tasks (is_deleted, id);
+create index idx_archived_tasks_deleted_id on archived_tasks (deleted, id);
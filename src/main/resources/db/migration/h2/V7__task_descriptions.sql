@@ -0,0 +1,14 @@
+-- Descriptions move out of tasks into a side table with one row per task, keyed by task id:
+-- list reads scan narrow task rows and only single-task reads and exports read descriptions.
+-- No foreign key: the application inserts the description before its task and deletes both.
+
+create table task_descriptions (
+    task_id binary(16) not null,
+    description varchar(1000),
+    constraint pk_task_descriptions primary key (task_id)
+);
+
+insert into task_descriptions (task_id, description)
+select id, description from tasks;
+
+alter table tasks drop column description;
@@ -0,0 +1,10 @@
+-- Sort rank of the priority (TaskPriority getRank, 1 = most urgent), which the priority-ordered
+-- lists sort on instead of a CASE over the enum name. Added nullable and backfilled from
+-- priority before the not-null constraint, so existing rows get their rank.
+
+alter table tasks add column priority_rank integer;
+
+update tasks set priority_rank = case priority
+        when 'URGENT' then 1 when 'HIGH' then 2 when 'MEDIUM' then 3 when 'LOW' then 4 end;
+
+alter table tasks modify priority_rank integer not null;
@@ -0,0 +1,28 @@
+-- Secondary indexes of tasks, one per access path of TaskRepository. Every finder filters on
+-- user_id and is_deleted = false, so both lead each index; the next column is the equality
+-- filter or sort key of the query, and id closes each key so keyset pages (ordered by the
+-- sort key, then id) are read in index order and stop after the page limit.
+-- MySQL has no partial indexes, so soft-deleted rows stay in the indexes under is_deleted = 1.
+-- All indexes lead with user_id, so InnoDB also uses them for the foreign key to app_user.
+--
+-- Not indexed: the title search matches LIKE '%term%', which no B-tree can seek; it scans the
+-- user's live rows in id order through idx_tasks_user_deleted_id and stops at the page limit.
+
+-- Overdue lists and counts (status IN (PENDING, IN_PROGRESS), range on due_date, by due date)
+-- and the per-status counts of the statistics endpoint
+create index idx_tasks_user_deleted_status_due on tasks (user_id, is_deleted, status, due_date, id);
+
+-- Priority-ordered pages (priority_rank, due_date nulls last, id)
+create index idx_tasks_user_deleted_rank_due on tasks (user_id, is_deleted, priority_rank, due_date, id);
+
+-- Pages of all tasks by id, streaming export, task counts and bulk filter matches
+create index idx_tasks_user_deleted_id on tasks (user_id, is_deleted, id);
+
+-- Pages by status, in id order
+create index idx_tasks_user_deleted_status_id on tasks (user_id, is_deleted, status, id);
+
+-- Pages by priority in id order, per-priority counts and lists
+create index idx_tasks_user_deleted_priority_id on tasks (user_id, is_deleted, priority, id);
+
+-- Pages of tasks created in a date range, by creation time
+create index idx_tasks_user_deleted_created on tasks (user_id, is_deleted, created_at, id);
@@ -0,0 +1,34 @@
+-- Task status and priority as smallint codes (TaskStatus and TaskPriority getCode) instead of
+-- enum names. The indexes on the columns are rebuilt around the new columns.
+
+drop index idx_tasks_user_deleted_status_due on tasks;
+drop index idx_tasks_user_deleted_status_id on tasks;
+drop index idx_tasks_user_deleted_priority_id on tasks;
+
+alter table tasks
+    add column status_code smallint,
+    add column priority_code smallint;
+
+update tasks set
+    status_code = case status
+        when 'PENDING' then 1 when 'IN_PROGRESS' then 2 when 'COMPLETED' then 3 when 'CANCELLED' then 4 end,
+    priority_code = case priority
+        when 'LOW' then 1 when 'MEDIUM' then 2 when 'HIGH' then 3 when 'URGENT' then 4 end;
+
+alter table tasks
+    drop column status,
+    drop column priority;
+
+alter table tasks
+    rename column status_code to status,
+    rename column priority_code to priority;
+
+alter table tasks
+    modify status smallint not null,
+    modify priority smallint not null,
+    add constraint ck_tasks_status check (status between 1 and 4),
+    add constraint ck_tasks_priority check (priority between 1 and 4);
+
+create index idx_tasks_user_deleted_status_due on tasks (user_id, is_deleted, status, due_date, id);
+create index idx_tasks_user_deleted_status_id on tasks (user_id, is_deleted, status, id);
+create index idx_tasks_user_deleted_priority_id on tasks (user_id, is_deleted, priority, id);
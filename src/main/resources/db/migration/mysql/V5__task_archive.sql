@@ -0,0 +1,25 @@
+-- Soft-delete time of tasks, and the archive table the archive job moves old tasks into.
+-- Archived rows are written once and read rarely, so the table is stored compressed.
+
+alter table tasks add column deleted_at datetime(6);
+
+create table archived_tasks (
+    id binary(16) not null,
+    user_id binary(16) not null,
+    title varchar(255) not null,
+    description varchar(1000),
+    status smallint not null,
+    priority smallint not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6),
+    due_date datetime(6),
+    deleted bit not null,
+    deleted_at datetime(6),
+    archived_at datetime(6) not null,
+    primary key (id),
+    constraint ck_archived_tasks_status check (status between 1 and 4),
+    constraint ck_archived_tasks_priority check (priority between 1 and 4)
+) engine=InnoDB row_format=compressed;
+
+-- Archive pages of a user, in id order
+create index idx_archived_tasks_user_deleted_id on archived_tasks (user_id, deleted, id);
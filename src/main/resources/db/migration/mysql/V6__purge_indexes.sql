@@ -0,0 +1,4 @@
+-- Soft-deleted rows in id order, for the purge job's keyset batches: the job seeks the
+-- is_deleted = 1 range instead of walking the whole primary key
+create index idx_tasks_deleted_id on tasks (is_deleted, id);
+create index idx_archived_tasks_deleted_id on archived_tasks (deleted, id);
@@ -0,0 +1,15 @@
+-- Descriptions move out of tasks into a side table with one row per task, keyed by task id:
+-- list reads scan narrow task rows, so more of them fit in each clustered index page, and
+-- only single-task reads and exports read descriptions.
+-- No foreign key: the application inserts the description before its task and deletes both.
+
+create table task_descriptions (
+    task_id binary(16) not null,
+    description varchar(1000),
+    primary key (task_id)
+) engine=InnoDB;
+
+insert into task_descriptions (task_id, description)
+select id, description from tasks;
+
+alter table tasks drop column description;
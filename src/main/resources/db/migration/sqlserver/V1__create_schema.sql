@@ -0,0 +1,37 @@
+-- Schema of the first release, before migrations were introduced. Databases created by that
+-- release are baselined at this version (spring.flyway.baseline-on-migrate) and only run what
+-- follows, so this script must not change. Key columns are binary(16) here; databases whose
+-- keys Hibernate created as text or uniqueidentifier are converted by V2.
+
+create table app_user (
+    id binary(16) not null,
+    username varchar(100) not null,
+    password varchar(255) not null,
+    email varchar(255) not null,
+    enabled bit not null,
+    account_non_expired bit not null,
+    account_non_locked bit not null,
+    credentials_non_expired bit not null,
+    version bigint not null,
+    constraint pk_app_user primary key (id),
+    constraint uk_app_user_username unique (username),
+    constraint uk_app_user_email unique (email)
+);
+
+create table tasks (
+    id binary(16) not null,
+    title varchar(255) not null,
+    description varchar(1000),
+    status varchar(20) not null,
+    priority varchar(20) not null,
+    created_at datetime2(6) not null,
+    updated_at datetime2(6),
+    due_date datetime2(6),
+    user_id binary(16) not null,
+    is_deleted bit not null,
+    version bigint not null,
+    constraint pk_tasks primary key (id),
+    constraint fk_tasks_user foreign key (user_id) references app_user (id),
+    constraint ck_tasks_status check (status in ('PENDING','IN_PROGRESS','COMPLETED','CANCELLED')),
+    constraint ck_tasks_priority check (priority in ('LOW','MEDIUM','HIGH','URGENT'))
+);
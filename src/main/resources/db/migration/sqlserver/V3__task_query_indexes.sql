@@ -0,0 +1,33 @@
+-- Secondary indexes of tasks, one per access path of TaskRepository. Every finder filters on
+-- user_id and is_deleted = false (rendered as the literal 0, which lets the optimizer match
+-- the filter), so the indexes are filtered to live rows: soft-deleted tasks take no index
+-- space and the keys need no is_deleted column. The next column is the equality filter or
+-- sort key of the query, and id closes each key so keyset pages (ordered by the sort key,
+-- then id) are read in index order and stop after the page limit.
+--
+-- Not indexed: the title search matches LIKE '%term%', which no B-tree can seek; it scans the
+-- user's live rows in id order through idx_tasks_user_deleted_id and stops at the page limit.
+-- The single-task and bulk updates find rows by primary key.
+
+-- Overdue lists and counts (status IN (PENDING, IN_PROGRESS), range on due_date, by due date)
+-- and the per-status counts of the statistics endpoint
+create index idx_tasks_user_deleted_status_due on tasks (user_id, status, due_date, id) where is_deleted = 0;
+
+-- Priority-ordered pages (priority_rank, due_date nulls last, id)
+create index idx_tasks_user_deleted_rank_due on tasks (user_id, priority_rank, due_date, id) where is_deleted = 0;
+
+-- Pages of all tasks by id, streaming export, task counts and bulk filter matches
+create index idx_tasks_user_deleted_id on tasks (user_id, id) where is_deleted = 0;
+
+-- Pages by status, in id order
+create index idx_tasks_user_deleted_status_id on tasks (user_id, status, id) where is_deleted = 0;
+
+-- Pages by priority in id order, per-priority counts and lists
+create index idx_tasks_user_deleted_priority_id on tasks (user_id, priority, id) where is_deleted = 0;
+
+-- Pages of tasks created in a date range, by creation time
+create index idx_tasks_user_deleted_created on tasks (user_id, created_at, id) where is_deleted = 0;
+
+-- SQL Server does not index foreign keys itself; finds a user's rows when checking the key
+create index idx_tasks_user on tasks (user_id);
+create index idx_import_jobs_user on import_jobs (user_id);
@@ -0,0 +1,36 @@
+-- Task status and priority as smallint codes (TaskStatus and TaskPriority getCode) instead of
+-- enum names. The indexes and check constraints on the columns are rebuilt around the new
+-- columns; the old check constraints are looked up by definition because databases created
+-- by Hibernate before migrations existed have generated constraint names.
+
+drop index idx_tasks_user_deleted_status_due on tasks;
+drop index idx_tasks_user_deleted_status_id on tasks;
+drop index idx_tasks_user_deleted_priority_id on tasks;
+
+begin
+    declare @drops nvarchar(max) = N'';
+    select @drops = @drops + N'alter table tasks drop constraint ' + quotename(name) + N';'
+    from sys.check_constraints
+    where parent_object_id = object_id('tasks') and (definition like '%status%' or definition like '%priority%');
+    exec sp_executesql @drops;
+end;
+
+alter table tasks add status_code smallint null, priority_code smallint null;
+
+update tasks set
+    status_code = case status
+        when 'PENDING' then 1 when 'IN_PROGRESS' then 2 when 'COMPLETED' then 3 when 'CANCELLED' then 4 end,
+    priority_code = case priority
+        when 'LOW' then 1 when 'MEDIUM' then 2 when 'HIGH' then 3 when 'URGENT' then 4 end;
+
+alter table tasks drop column status, priority;
+exec sp_rename 'tasks.status_code', 'status', 'COLUMN';
+exec sp_rename 'tasks.priority_code', 'priority', 'COLUMN';
+alter table tasks alter column status smallint not null;
+alter table tasks alter column priority smallint not null;
+alter table tasks add constraint ck_tasks_status check (status between 1 and 4);
+alter table tasks add constraint ck_tasks_priority check (priority between 1 and 4);
+
+create index idx_tasks_user_deleted_status_due on tasks (user_id, status, due_date, id) where is_deleted = 0;
+create index idx_tasks_user_deleted_status_id on tasks (user_id, status, id) where is_deleted = 0;
+create index idx_tasks_user_deleted_priority_id on tasks (user_id, priority, id) where is_deleted = 0;
@@ -0,0 +1,26 @@
+-- Soft-delete time of tasks, and the archive table the archive job moves old tasks into.
+-- Archived rows are written once and read rarely, so the table and its index are page compressed.
+
+alter table tasks add deleted_at datetime2(6) null;
+
+create table archived_tasks (
+    id binary(16) not null,
+    user_id binary(16) not null,
+    title varchar(255) not null,
+    description varchar(1000),
+    status smallint not null,
+    priority smallint not null,
+    created_at datetime2(6) not null,
+    updated_at datetime2(6),
+    due_date datetime2(6),
+    deleted bit not null,
+    deleted_at datetime2(6),
+    archived_at datetime2(6) not null,
+    constraint pk_archived_tasks primary key (id) with (data_compression = page),
+    constraint ck_archived_tasks_status check (status between 1 and 4),
+    constraint ck_archived_tasks_priority check (priority between 1 and 4)
+);
+
+-- Archive pages of a user, in id order; tasks deleted before archiving are never listed
+create index idx_archived_tasks_user_id on archived_tasks (user_id, id) where deleted = 0
+    with (data_compression = page);
@@ -0,0 +1,5 @@
+-- Soft-deleted rows in id order, for the purge job's keyset batches. Filtered to deleted rows,
+-- so the indexes stay as small as the backlog of rows waiting to be purged.
+create index idx_tasks_deleted_id on tasks (id) include (deleted_at, updated_at, created_at) where is_deleted = 1;
+create index idx_archived_tasks_deleted_id on archived_tasks (id) include (deleted_at, archived_at) where deleted = 1
+    with (data_compression = page);
@@ -0,0 +1,94 @@
+package com.akertesz.task_manager_api.config;
+
+import java.sql.Connection;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConnectionMetricsDataSourceTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testConnection_TimedPerEndpoint() throws Exception {
+        // Arrange
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ConnectionMetricsDataSource dataSource = new ConnectionMetricsDataSource(target, () -> registry);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/42");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/tasks/{id}");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // Act
+        Connection borrowed = dataSource.getConnection();
+        borrowed.close();
+        borrowed.close();
+
+        // Assert: one acquire and one hold per connection, closes pass through
+        assertEquals(1, registry.get(ConnectionMetricsDataSource.ACQUIRE_TIMER)
+                .tag("method", "GET").tag("uri", "/api/tasks/{id}").timer().count());
+        assertEquals(1, registry.get(ConnectionMetricsDataSource.HOLD_TIMER)
+                .tag("method", "GET").tag("uri", "/api/tasks/{id}").timer().count());
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void testPostProcessor_WrapsPoolsButNotTheLazyRoutingProxy() {
+        // Arrange
+        BeanPostProcessor postProcessor = ConnectionMetricsConfig.connectionMetricsPostProcessor(
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(mock(DataSource.class));
+
+        // Act
+        try (HikariDataSource pool = new HikariDataSource()) {
+            Object wrappedPool = postProcessor.postProcessAfterInitialization(pool, "primaryDataSource");
+            Object wrappedRouting = postProcessor.postProcessAfterInitialization(routing, "dataSource");
+
+            // Assert
+            assertInstanceOf(ConnectionMetricsDataSource.class, wrappedPool);
+            assertSame(routing, wrappedRouting);
+        }
+    }
+
+    @Test
+    void testConnection_OutsideRequestTaggedNone() throws Exception {
+        // Arrange
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ConnectionMetricsDataSource dataSource = new ConnectionMetricsDataSource(target, () -> registry);
+
+        // Act
+        dataSource.getConnection().close();
+
+        // Assert
+        assertEquals(1, registry.get(ConnectionMetricsDataSource.HOLD_TIMER)
+                .tag("method", "none").tag("uri", "none").timer().count());
+    }
+}
@@ -0,0 +1,71 @@
+package com.akertesz.task_manager_api.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReplicaRoutingDataSourceTest {
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testReadWriteTransaction_RoutesToPrimary() {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(Duration.ofSeconds(5));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void testReadOnlyTransaction_RoutesToReplica() {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(Duration.ofSeconds(5));
+        authenticate("reader");
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(ReplicaRoutingDataSource.REPLICA, dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void testReadAfterOwnWrite_StaysOnPrimaryWithinWindow() {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(Duration.ofSeconds(5));
+        authenticate("writer");
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        dataSource.determineCurrentLookupKey();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+
+        // Other users are not affected by the writer's window
+        authenticate("someoneElse");
+        assertEquals(ReplicaRoutingDataSource.REPLICA, dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void testReadAfterOwnWrite_ZeroWindowUsesReplica() {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(Duration.ZERO);
+        authenticate("writer");
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        dataSource.determineCurrentLookupKey();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(ReplicaRoutingDataSource.REPLICA, dataSource.determineCurrentLookupKey());
+    }
+
+    private void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+            username, null, List.of(new SimpleGrantedAuthority("USER"))));
+    }
+}
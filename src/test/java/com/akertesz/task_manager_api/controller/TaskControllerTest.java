@@ -1,18 +1,27 @@
 package com.akertesz.task_manager_api.controller;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
-import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -26,6 +35,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -33,6 +44,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import com.akertesz.task_manager_api.config.JwtUtil;
 import com.akertesz.task_manager_api.dto.CreateTaskRequest;
 import com.akertesz.task_manager_api.dto.TaskDto;
+import com.akertesz.task_manager_api.dto.TaskPage;
 import com.akertesz.task_manager_api.dto.UpdateTaskRequest;
 import com.akertesz.task_manager_api.exception.GlobalExceptionHandler;
 import com.akertesz.task_manager_api.model.TaskPriority;
@@ -56,6 +68,9 @@ class TaskControllerTest {
     @Mock
     private SecurityContext securityContext;
 
+    @Spy
+    private ObjectMapper jsonMapper = new ObjectMapper().findAndRegisterModules();
+
     @InjectMocks
     private TaskController taskController;
 
@@ -145,17 +160,131 @@ class TaskControllerTest {
     void testGetAllTasks_Success() throws Exception {
         // Arrange
         setupSecurityContext();
-        List<TaskDto> tasks = Arrays.asList(testTaskDto);
-        when(taskService.getAllTasks(username)).thenReturn(tasks);
+        TaskPage tasks = new TaskPage(Arrays.asList(testTaskDto), null);
+        when(taskService.getAllTasks(username, null, null)).thenReturn(tasks);
 
         // Act & Assert
         mockMvc.perform(get("/api/tasks")
                 .header("Authorization", "Bearer token"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(taskId.toString()))
-                .andExpect(jsonPath("$[0].title").value("Test Task"));
+                .andExpect(jsonPath("$[0].title").value("Test Task"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+
+        verify(taskService).getAllTasks(username, null, null);
+    }
+
+    @Test
+    void testGetAllTasks_IncludesDescriptionsWhenRequested() throws Exception {
+        // Arrange
+        setupSecurityContext();
+        TaskPage tasks = new TaskPage(Arrays.asList(testTaskDto), null);
+        when(taskService.getAllTasks(username, null, null)).thenReturn(tasks);
+        when(taskService.includeDescriptions(tasks, username)).thenReturn(tasks);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks")
+                .param("include", "description")
+                .header("Authorization", "Bearer token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(taskId.toString()));
+
+        verify(taskService).includeDescriptions(tasks, username);
+    }
+
+    @Test
+    void testGetTasksByStatus_InvalidInclude() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/status/{status}", "PENDING")
+                .param("include", "comments")
+                .header("Authorization", "Bearer token"))
+                .andExpect(status().isBadRequest());
 
-        verify(taskService).getAllTasks(username);
+        verify(taskService, never()).getTasksByStatus(any(), any(), any(), any());
+    }
+
+    @Test
+    void testGetAllTasks_StreamsNdjsonWhenRequested() throws Exception {
+        // Arrange
+        setupSecurityContext();
+        doAnswer(invocation -> {
+            Consumer<TaskDto> action = invocation.getArgument(1);
+            action.accept(testTaskDto);
+            action.accept(testTaskDto);
+            return null;
+        }).when(taskService).forEachTask(eq(username), any());
+
+        // Act
+        String body = mockMvc.perform(get("/api/tasks")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .header("Authorization", "Bearer token"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(taskId.toString(), objectMapper.readTree(lines[0]).get("id").asText());
+        verify(taskService, never()).getAllTasks(any(), any(), any());
+    }
+
+    @Test
+    void testExportTasks_WritesGzippedCsv() throws Exception {
+        // Arrange
+        setupSecurityContext();
+        testTaskDto.setDescription("Line one\nline \"two\"");
+        doAnswer(invocation -> {
+            Consumer<TaskDto> action = invocation.getArgument(1);
+            action.accept(testTaskDto);
+            return null;
+        }).when(taskService).forEachTask(eq(username), any());
+
+        // Act
+        byte[] body = mockMvc.perform(get("/api/tasks/export")
+                .param("format", "csv")
+                .header("Authorization", "Bearer token"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/gzip"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"tasks.csv.gz\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        String csv;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String[] lines = csv.split("\r\n");
+        assertEquals(2, lines.length);
+        assertEquals("id,title,description,status,priority,createdAt,updatedAt,dueDate", lines[0]);
+        assertTrue(lines[1].startsWith(taskId + ",Test Task,\"Line one\nline \"\"two\"\"\","));
+    }
+
+    @Test
+    void testExportTasks_RejectsUnknownFormat() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/export")
+                .param("format", "xml")
+                .header("Authorization", "Bearer token"))
+                .andExpect(status().isBadRequest());
+        verify(taskService, never()).forEachTask(any(), any());
+    }
+
+    @Test
+    void testGetAllTasks_PassesCursorAndReturnsNextCursorHeader() throws Exception {
+        // Arrange
+        setupSecurityContext();
+        TaskPage tasks = new TaskPage(Arrays.asList(testTaskDto), "next-page");
+        when(taskService.getAllTasks(username, "this-page", 1)).thenReturn(tasks);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks")
+                .param("cursor", "this-page")
+                .param("limit", "1")
+                .header("Authorization", "Bearer token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(taskId.toString()))
+                .andExpect(header().string("X-Next-Cursor", "next-page"));
     }
 
     // Get Task By ID Tests
@@ -241,8 +370,8 @@ class TaskControllerTest {
     void testGetTasksByStatus_Success() throws Exception {
         // Arrange
         setupSecurityContext();
-        List<TaskDto> tasks = Arrays.asList(testTaskDto);
-        when(taskService.getTasksByStatus(eq(TaskStatus.PENDING), eq(username)))
+        TaskPage tasks = new TaskPage(Arrays.asList(testTaskDto), null);
+        when(taskService.getTasksByStatus(eq(TaskStatus.PENDING), eq(username), isNull(), isNull()))
                 .thenReturn(tasks);
 
         // Act & Assert
@@ -251,7 +380,7 @@ class TaskControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(taskId.toString()));
 
-        verify(taskService).getTasksByStatus(TaskStatus.PENDING, username);
+        verify(taskService).getTasksByStatus(TaskStatus.PENDING, username, null, null);
     }
 
     // Get Tasks By Priority Tests
@@ -259,8 +388,8 @@ class TaskControllerTest {
     void testGetTasksByPriority_Success() throws Exception {
         // Arrange
         setupSecurityContext();
-        List<TaskDto> tasks = Arrays.asList(testTaskDto);
-        when(taskService.getTasksByPriority(eq(TaskPriority.MEDIUM), eq(username)))
+        TaskPage tasks = new TaskPage(Arrays.asList(testTaskDto), null);
+        when(taskService.getTasksByPriority(eq(TaskPriority.MEDIUM), eq(username), isNull(), isNull()))
                 .thenReturn(tasks);
 
         // Act & Assert
@@ -269,7 +398,7 @@ class TaskControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(taskId.toString()));
 
-        verify(taskService).getTasksByPriority(TaskPriority.MEDIUM, username);
+        verify(taskService).getTasksByPriority(TaskPriority.MEDIUM, username, null, null);
     }
 
     // Get Overdue Tasks Tests
@@ -277,8 +406,8 @@ class TaskControllerTest {
     void testGetOverdueTasks_Success() throws Exception {
         // Arrange
         setupSecurityContext();
-        List<TaskDto> tasks = Arrays.asList(testTaskDto);
-        when(taskService.getOverdueTasks(username)).thenReturn(tasks);
+        TaskPage tasks = new TaskPage(Arrays.asList(testTaskDto), null);
+        when(taskService.getOverdueTasks(username, null, null)).thenReturn(tasks);
 
         // Act & Assert
         mockMvc.perform(get("/api/tasks/overdue")
@@ -286,7 +415,7 @@ class TaskControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(taskId.toString()));
 
-        verify(taskService).getOverdueTasks(username);
+        verify(taskService).getOverdueTasks(username, null, null);
     }
 
     // Search Tasks By Title Tests
@@ -294,8 +423,8 @@ class TaskControllerTest {
     void testSearchTasksByTitle_Success() throws Exception {
         // Arrange
         setupSecurityContext();
-        List<TaskDto> tasks = Arrays.asList(testTaskDto);
-        when(taskService.searchTasksByTitle(eq("test"), eq(username)))
+        TaskPage tasks = new TaskPage(Arrays.asList(testTaskDto), null);
+        when(taskService.searchTasksByTitle(eq("test"), eq(username), isNull(), isNull()))
                 .thenReturn(tasks);
 
         // Act & Assert
@@ -305,7 +434,7 @@ class TaskControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(taskId.toString()));
 
-        verify(taskService).searchTasksByTitle("test", username);
+        verify(taskService).searchTasksByTitle("test", username, null, null);
     }
 
     // Get Tasks Created Between Tests
@@ -315,9 +444,9 @@ class TaskControllerTest {
         setupSecurityContext();
         LocalDateTime startDate = now.minusDays(7);
         LocalDateTime endDate = now.plusDays(7);
-        List<TaskDto> tasks = Arrays.asList(testTaskDto);
+        TaskPage tasks = new TaskPage(Arrays.asList(testTaskDto), null);
         
-        when(taskService.getTasksCreatedBetween(eq(startDate), eq(endDate), eq(username)))
+        when(taskService.getTasksCreatedBetween(eq(startDate), eq(endDate), eq(username), isNull(), isNull()))
                 .thenReturn(tasks);
 
         DateTimeFormatter formatter = DateTimeFormatter.ISO_DATE_TIME;
@@ -332,7 +461,7 @@ class TaskControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(taskId.toString()));
 
-        verify(taskService).getTasksCreatedBetween(startDate, endDate, username);
+        verify(taskService).getTasksCreatedBetween(startDate, endDate, username, null, null);
     }
 
     // Get Tasks Ordered By Priority And Due Date Tests
@@ -340,8 +469,8 @@ class TaskControllerTest {
     void testGetTasksOrderedByPriorityAndDueDate_Success() throws Exception {
         // Arrange
         setupSecurityContext();
-        List<TaskDto> tasks = Arrays.asList(testTaskDto);
-        when(taskService.getTasksOrderedByPriorityAndDueDate(username))
+        TaskPage tasks = new TaskPage(Arrays.asList(testTaskDto), null);
+        when(taskService.getTasksOrderedByPriorityAndDueDate(username, null, null))
                 .thenReturn(tasks);
 
         // Act & Assert
@@ -350,7 +479,7 @@ class TaskControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(taskId.toString()));
 
-        verify(taskService).getTasksOrderedByPriorityAndDueDate(username);
+        verify(taskService).getTasksOrderedByPriorityAndDueDate(username, null, null);
     }
 
     // Change Task Status Tests
@@ -551,12 +680,15 @@ class TaskControllerTest {
     void testSearchTasksByTitle_EmptyTitle() throws Exception {
         // Arrange
         setupSecurityContext();
+        when(taskService.searchTasksByTitle("", username, null, null))
+                .thenReturn(new TaskPage(Arrays.asList(), null));
         
         // Act & Assert
         mockMvc.perform(get("/api/tasks/search")
                 .param("title", "")
                 .header("Authorization", "Bearer token"))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
     }
 
     @Test
@@ -0,0 +1,95 @@
+package com.akertesz.task_manager_api.id;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void testNewId_HasVersion7AndRfcVariantAndCurrentTimestamp() {
+        // Arrange
+        UuidV7Generator generator = new UuidV7Generator();
+        long before = System.currentTimeMillis();
+
+        // Act
+        UUID id = generator.newId();
+
+        // Assert
+        long after = System.currentTimeMillis();
+        long millis = id.getMostSignificantBits() >>> 16;
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertTrue(millis >= before && millis <= after + 1, "Timestamp should be the creation time");
+    }
+
+    @Test
+    void testNewId_IncreasesWithinOneMillisecondAndWhenClockStepsBack() {
+        // Arrange
+        AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+        UuidV7Generator generator = new UuidV7Generator(clock::get);
+        List<UUID> ids = new ArrayList<>();
+
+        // Act: more ids than the 12-bit sequence holds, then a clock going backwards
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.newId());
+        }
+        clock.addAndGet(-5_000);
+        ids.add(generator.newId());
+        clock.set(1_700_000_100_000L);
+        ids.add(generator.newId());
+
+        // Assert
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(compareUnsigned(ids.get(i - 1), ids.get(i)) < 0, "Id " + i + " should sort after id " + (i - 1));
+            assertEquals(7, ids.get(i).version());
+        }
+        assertEquals(1_700_000_100_000L, ids.get(ids.size() - 1).getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void testNewId_UniqueAcrossThreads() throws InterruptedException {
+        // Arrange
+        UuidV7Generator generator = new UuidV7Generator();
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 20_000;
+        CountDownLatch done = new CountDownLatch(threads);
+
+        // Act
+        for (int t = 0; t < threads; t++) {
+            Thread.ofPlatform().start(() -> {
+                Set<UUID> own = new HashSet<>();
+                UUID previous = null;
+                for (int i = 0; i < perThread; i++) {
+                    UUID id = generator.newId();
+                    if (previous == null || compareUnsigned(previous, id) < 0) {
+                        own.add(id);
+                    }
+                    previous = id;
+                }
+                ids.addAll(own);
+                done.countDown();
+            });
+        }
+        done.await();
+
+        // Assert: every id distinct, and each thread saw its own ids in increasing order
+        assertEquals(threads * perThread, ids.size());
+    }
+
+    // Byte order as stored in a binary(16) column; UUID.compareTo compares signed halves
+    private static int compareUnsigned(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,90 @@
+package com.akertesz.task_manager_api.importing;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.akertesz.task_manager_api.exception.InvalidRequestException;
+import com.akertesz.task_manager_api.model.TaskPriority;
+
+class CsvTaskRecordReaderTest {
+
+    @Test
+    void testNext_MapsColumnsByHeaderName() throws IOException {
+        // Arrange
+        CsvTaskRecordReader reader = reader("\uFEFFPriority,Owner,Title,dueDate\r\n"
+                + "high,alice,Write report,2025-06-30T17:00:00\r\n");
+
+        // Act
+        ImportRecord record = reader.next();
+
+        // Assert
+        assertEquals(1, record.number());
+        assertNull(record.errors());
+        assertEquals("Write report", record.request().getTitle());
+        assertEquals(TaskPriority.HIGH, record.request().getPriority());
+        assertEquals(LocalDateTime.of(2025, 6, 30, 17, 0), record.request().getDueDate());
+        assertNull(record.request().getDescription());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testNext_ReadsQuotedFields() throws IOException {
+        // Arrange
+        CsvTaskRecordReader reader = reader("title,description\n"
+                + "\"Plan, then act\",\"Line one\nline \"\"two\"\"\"\n"
+                + "\n"
+                + "Second,\n");
+
+        // Act
+        ImportRecord first = reader.next();
+        ImportRecord second = reader.next();
+
+        // Assert
+        assertEquals("Plan, then act", first.request().getTitle());
+        assertEquals("Line one\nline \"two\"", first.request().getDescription());
+        assertEquals(2, second.number());
+        assertEquals("Second", second.request().getTitle());
+        assertNull(second.request().getDescription());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testNext_ReportsUnparsableValues() throws IOException {
+        // Arrange
+        CsvTaskRecordReader reader = reader("title,priority,dueDate\nTask,SOMEDAY,tomorrow\n");
+
+        // Act
+        ImportRecord record = reader.next();
+
+        // Assert
+        assertNull(record.request());
+        assertTrue(record.errors().containsKey("priority"));
+        assertTrue(record.errors().containsKey("dueDate"));
+    }
+
+    @Test
+    void testNext_RejectsUnterminatedQuote() throws IOException {
+        // Arrange
+        CsvTaskRecordReader reader = reader("title\n\"Never closed\n");
+
+        // Act & Assert
+        assertThrows(InvalidRequestException.class, reader::next);
+    }
+
+    @Test
+    void testConstructor_RequiresTitleColumn() {
+        assertThrows(InvalidRequestException.class, () -> reader("name,priority\nTask,HIGH\n"));
+    }
+
+    private static CsvTaskRecordReader reader(String csv) throws IOException {
+        return new CsvTaskRecordReader(new BufferedReader(new StringReader(csv)));
+    }
+}
@@ -0,0 +1,137 @@
+package com.akertesz.task_manager_api.migration;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.akertesz.task_manager_api.model.TaskPriority;
+
+/**
+ * Runs the H2 migration set, with the V2 Java migration, the way the application does:
+ * from an empty database, and from a database created before migrations existed.
+ */
+class MigrationTest {
+
+    private static final String URL = "jdbc:h2:mem:migration-test;DB_CLOSE_DELAY=-1";
+    private static final String LEGACY_URL = "jdbc:h2:mem:legacy-migration-test;DB_CLOSE_DELAY=-1";
+
+    @Test
+    void testMigrate_UpgradesFirstReleaseDataAndBackfillsPriorityRank() throws SQLException {
+        // Arrange: a database at the first release schema with one task per priority
+        flyway(URL).target("1").load().migrate();
+        byte[] userId = bytes(UUID.randomUUID());
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "")) {
+            try (PreparedStatement user = connection.prepareStatement(
+                    "insert into app_user values (?, 'olduser', 'pw', 'old@example.com', true, true, true, true, 0)")) {
+                user.setBytes(1, userId);
+                user.executeUpdate();
+            }
+            for (TaskPriority priority : TaskPriority.values()) {
+                try (PreparedStatement task = connection.prepareStatement(
+                        "insert into tasks (id, title, status, priority, created_at, user_id, is_deleted, version) "
+                        + "values (?, ?, 'PENDING', ?, current_timestamp, ?, false, 0)")) {
+                    task.setBytes(1, bytes(UUID.randomUUID()));
+                    task.setString(2, priority.name());
+                    task.setString(3, priority.name());
+                    task.setBytes(4, userId);
+                    task.executeUpdate();
+                }
+            }
+        }
+
+        // Act
+        flyway(URL).load().migrate();
+
+        // Assert
+        Map<String, Integer> ranks = new HashMap<>();
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("select title, priority_rank from tasks")) {
+            while (rows.next()) {
+                ranks.put(rows.getString(1), rows.getInt(2));
+            }
+        }
+        assertEquals(TaskPriority.values().length, ranks.size());
+        for (TaskPriority priority : TaskPriority.values()) {
+            assertEquals(priority.getRank(), ranks.get(priority.name()));
+        }
+    }
+
+    @Test
+    void testMigrate_ConvertsKeysOfDatabaseCreatedBeforeMigrations() throws SQLException {
+        // Arrange: the first release schema as Hibernate generated it, with uuid keys and a
+        // generated foreign key name
+        UUID userId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+        try (Connection connection = DriverManager.getConnection(LEGACY_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table app_user (id uuid not null, username varchar(100) not null, "
+                    + "password varchar(255) not null, email varchar(255) not null, enabled boolean not null, "
+                    + "account_non_expired boolean not null, account_non_locked boolean not null, "
+                    + "credentials_non_expired boolean not null, version bigint not null, primary key (id))");
+            statement.execute("create table tasks (id uuid not null, title varchar(255) not null, "
+                    + "description varchar(1000), status enum('PENDING','IN_PROGRESS','COMPLETED','CANCELLED') not null, "
+                    + "priority enum('LOW','MEDIUM','HIGH','URGENT') not null, created_at timestamp(6) not null, "
+                    + "updated_at timestamp(6), due_date timestamp(6), user_id uuid not null, is_deleted boolean not null, "
+                    + "version bigint not null, primary key (id), "
+                    + "constraint FK6s1ob9k4ihi75xbxe2w0ylsdh foreign key (user_id) references app_user (id))");
+            statement.execute("insert into app_user values ('" + userId + "', 'olduser', 'pw', 'old@example.com', "
+                    + "true, true, true, true, 0)");
+            statement.execute("insert into tasks (id, title, status, priority, created_at, user_id, is_deleted, version) "
+                    + "values ('" + taskId + "', 'Legacy', 'PENDING', 'HIGH', current_timestamp, '" + userId + "', false, 0)");
+        }
+
+        // Act: baselined at V1, as configured in application.properties
+        flyway(LEGACY_URL).baselineOnMigrate(true).baselineVersion("1").load().migrate();
+
+        // Assert: keys are binary(16) in UUID byte order, and import_jobs references the converted key
+        try (Connection connection = DriverManager.getConnection(LEGACY_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            assertEquals("BINARY", dataType(statement, "APP_USER", "ID"));
+            assertEquals("BINARY", dataType(statement, "TASKS", "ID"));
+            assertEquals("BINARY", dataType(statement, "TASKS", "USER_ID"));
+            assertEquals("BINARY", dataType(statement, "IMPORT_JOBS", "USER_ID"));
+            try (ResultSet rows = statement.executeQuery("select id, user_id from tasks")) {
+                assertTrue(rows.next());
+                assertArrayEquals(bytes(taskId), rows.getBytes(1));
+                assertArrayEquals(bytes(userId), rows.getBytes(2));
+            }
+            try (ResultSet rows = statement.executeQuery("select count(*) from INFORMATION_SCHEMA.TABLE_CONSTRAINTS "
+                    + "where CONSTRAINT_NAME in ('FK_TASKS_USER', 'FK_IMPORT_JOBS_USER')")) {
+                assertTrue(rows.next());
+                assertEquals(2, rows.getInt(1));
+            }
+        }
+    }
+
+    // Flyway as the application configures it: the vendor's scripts plus the Java migrations
+    private static FluentConfiguration flyway(String url) {
+        return Flyway.configure().dataSource(url, "sa", "").locations("classpath:db/migration/h2")
+                .javaMigrations(new V2__ConvertUuidColumnsToBinary());
+    }
+
+    private static String dataType(Statement statement, String table, String column) throws SQLException {
+        try (ResultSet rows = statement.executeQuery("select DATA_TYPE from INFORMATION_SCHEMA.COLUMNS "
+                + "where TABLE_SCHEMA = SCHEMA() and TABLE_NAME = '" + table + "' and COLUMN_NAME = '" + column + "'")) {
+            return rows.next() ? rows.getString(1) : null;
+        }
+    }
+
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+    }
+}
@@ -353,6 +353,19 @@ class ModelTest {
         assertEquals(TaskPriority.URGENT, testTask.getPriority());
     }
 
+    @Test
+    void testTask_PriorityRankFollowsPriority() {
+        // Test that the persisted rank is kept in step with the priority enum
+        testTask.setPriority(TaskPriority.URGENT);
+        assertEquals(1, testTask.getPriorityRank());
+        
+        testTask.setPriority(TaskPriority.LOW);
+        assertEquals(4, testTask.getPriorityRank());
+        
+        testTask.setPriority(null);
+        assertEquals(0, testTask.getPriorityRank());
+    }
+
     @Test
     void testTask_SoftDelete() {
         // Test soft delete functionality
@@ -0,0 +1,506 @@
+package com.akertesz.task_manager_api.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.hibernate.stat.Statistics;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.TestPropertySource;
+
+import com.akertesz.task_manager_api.dto.TaskDto;
+import com.akertesz.task_manager_api.id.UuidV7Generator;
+import com.akertesz.task_manager_api.model.ArchivedTask;
+import com.akertesz.task_manager_api.model.Task;
+import com.akertesz.task_manager_api.model.TaskPriority;
+import com.akertesz.task_manager_api.model.TaskStatus;
+import com.akertesz.task_manager_api.model.User;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Guards the task read paths against loading the owning User. Every query must run as a
+ * single statement and must not load or fetch a User entity.
+ */
+@DataJpaTest
+@TestPropertySource(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class TaskRepositoryTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+    private static final LocalDateTime FIRST_DATE_TIME = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final Limit PAGE = Limit.of(50);
+
+    private Statistics statistics;
+    private User testUser;
+    private UUID taskId;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+
+        testUser = new User();
+        testUser.setId(UUID.randomUUID());
+        testUser.setUsername("statsuser");
+        testUser.setEmail("stats@example.com");
+        testUser.setPassword("encodedPassword");
+        entityManager.persist(testUser);
+
+        for (int i = 0; i < 5; i++) {
+            Task task = new Task();
+            task.setId(UUID.randomUUID());
+            task.setTitle("Task " + i);
+            task.setDescription("Description " + i);
+            task.setStatus(i % 2 == 0 ? TaskStatus.PENDING : TaskStatus.COMPLETED);
+            task.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+            // Shifted by an hour so no task is due exactly at "now"
+            task.setDueDate(now.minusDays(i - 2).plusHours(1));
+            task.setUser(testUser);
+            entityManager.persist(task);
+            taskId = task.getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testFindByIdAndUser_DoesNotLoadOwner() {
+        // Act
+        Optional<Task> task = taskRepository.findByIdAndUserAndIsDeletedFalse(taskId, testUser);
+
+        // Assert
+        assertTrue(task.isPresent());
+        assertFalse(Hibernate.isInitialized(task.get().getUser()));
+        assertNoOwnerFetch(1);
+    }
+
+    @Test
+    void testEntities_TrackTheirOwnChanges() {
+        // Arrange: enhanced at build time by hibernate-enhance-maven-plugin
+        assertTrue(SelfDirtinessTracker.class.isAssignableFrom(Task.class), "Task must be enhanced");
+        assertTrue(SelfDirtinessTracker.class.isAssignableFrom(User.class), "User must be enhanced");
+        Task task = taskRepository.findByIdAndUserAndIsDeletedFalse(taskId, testUser).orElseThrow();
+
+        // Act
+        task.setTitle("Renamed");
+        List<String> dirty = List.of(((SelfDirtinessTracker) task).$$_hibernate_getDirtyAttributes());
+        entityManager.flush();
+
+        // Assert: the flush knows the changed attribute without comparing against a snapshot
+        assertEquals(List.of("title"), dirty);
+        assertEquals(1, statistics.getEntityUpdateCount());
+    }
+
+    @Test
+    void testEntityListQueries_DoNotLoadOwner() {
+        // Act
+        List<Task> byPriority = taskRepository.findByPriorityAndUserAndIsDeletedFalse(TaskPriority.LOW, testUser);
+        List<Task> overdue = taskRepository.findOverdueTasksByUser(now, testUser);
+
+        // Assert
+        assertFalse(byPriority.isEmpty());
+        assertFalse(overdue.isEmpty());
+        assertNoOwnerFetch(2);
+    }
+
+    @Test
+    void testDtoQueries_DoNotLoadAnyEntity() {
+        // Act
+        List<TaskDto> all = taskRepository.findDtosByUser(testUser);
+        List<TaskDto> page = taskRepository.findDtoPageByUser(testUser, FIRST_ID, PAGE);
+        taskRepository.findDtoPageByStatusAndUser(TaskStatus.PENDING, testUser, FIRST_ID, PAGE);
+        taskRepository.findDtoPageByPriorityAndUser(TaskPriority.HIGH, testUser, FIRST_ID, PAGE);
+        taskRepository.findOverdueDtoPageByUser(now, testUser, FIRST_DATE_TIME, FIRST_ID, PAGE);
+        taskRepository.findDtoPageByTitleLikeAndUser("%task%", testUser, FIRST_ID, PAGE);
+        taskRepository.findDtoPageByCreatedAtBetweenAndUser(now.minusDays(1), now.plusDays(1), testUser,
+            now.minusDays(1), FIRST_ID, PAGE);
+        taskRepository.findOrderedDtoPageAfterDueDate(testUser, -1, FIRST_DATE_TIME, FIRST_ID, PAGE);
+        taskRepository.findOrderedDtoPageAfterNullDueDate(testUser, -1, FIRST_ID, PAGE);
+
+        // Assert
+        assertEquals(5, all.size());
+        assertEquals(5, page.size());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertNoOwnerFetch(9);
+    }
+
+    @Test
+    void testDescription_ReadFromSideTableOnlyWhenAsked() {
+        // Act
+        Task task = taskRepository.findByIdAndUserAndIsDeletedFalse(taskId, testUser).orElseThrow();
+        long statementsToLoad = statistics.getPrepareStatementCount();
+        String description = task.getDescription();
+        List<TaskDto> page = taskRepository.findDtoPageByUser(testUser, FIRST_ID, PAGE);
+        List<TaskDto> byId = taskRepository.findDtosByIdInAndUser(List.of(taskId), testUser);
+
+        // Assert: the task row comes alone, the description is one more statement when read;
+        // list pages leave it out, reads of specific tasks join it in
+        assertEquals(1, statementsToLoad);
+        assertEquals("Description 4", description);
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertTrue(page.stream().allMatch(dto -> dto.getDescription() == null));
+        assertEquals("Description 4", byId.get(0).getDescription());
+    }
+
+    @Test
+    void testFindDescriptionRows_ReadsPageDescriptionsOfOwnerInOneQuery() {
+        // Arrange
+        User other = persistOtherUserWithTask();
+        statistics.clear();
+
+        // Act
+        List<TaskDescriptionRow> rows = taskRepository.findDescriptionRowsByIdInAndUser(
+            List.of(taskId, UUID.randomUUID()), testUser);
+        List<TaskDescriptionRow> othersRows = taskRepository.findDescriptionRowsByIdInAndUser(List.of(taskId), other);
+
+        // Assert
+        assertEquals(List.of(new TaskDescriptionRow(taskId, "Description 4")), rows);
+        assertTrue(othersRows.isEmpty());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindTasksByUserIds_LoadsSeveralOwnersInOneQuery() {
+        // Arrange
+        User other = persistOtherUserWithTask();
+        statistics.clear();
+
+        // Act
+        Map<UUID, List<Task>> byUser = taskRepository.findTasksByUserIds(List.of(testUser.getId(), other.getId()));
+
+        // Assert
+        assertEquals(5, byUser.get(testUser.getId()).size());
+        assertEquals(1, byUser.get(other.getId()).size());
+        assertNoOwnerFetch(1);
+    }
+
+    @Test
+    void testUserTasks_BatchFetchedAcrossUsers() {
+        // Arrange
+        User other = persistOtherUserWithTask();
+        List<User> users = entityManager.getEntityManager()
+            .createQuery("SELECT u FROM User u WHERE u.id IN :ids ORDER BY u.username", User.class)
+            .setParameter("ids", List.of(testUser.getId(), other.getId()))
+            .getResultList();
+        statistics.clear();
+
+        // Act
+        String printed = users.get(0).toString();
+        boolean loadedByToString = Hibernate.isInitialized(users.get(0).getTasks());
+        int total = 0;
+        for (User user : users) {
+            total += user.getTasks().size();
+        }
+
+        // Assert: toString leaves the collection alone; both collections come from one query
+        assertTrue(printed.startsWith("User [id="));
+        assertFalse(loadedByToString);
+        assertEquals(6, total);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testCountQueries_DoNotLoadAnyEntity() {
+        // Act
+        long total = taskRepository.countByUserAndIsDeletedFalse(testUser);
+        long pending = taskRepository.countByStatusAndUserAndIsDeletedFalse(TaskStatus.PENDING, testUser);
+        long low = taskRepository.countByPriorityAndUserAndIsDeletedFalse(TaskPriority.LOW, testUser);
+        long overdue = taskRepository.countOverdueTasksByUser(now, testUser);
+
+        // Assert
+        assertEquals(5, total);
+        assertEquals(3, pending);
+        assertEquals(2, low);
+        assertEquals(1, overdue);
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertNoOwnerFetch(4);
+    }
+
+    @Test
+    void testOverdueQueries_ExcludeTerminalStatuses() {
+        // Act
+        List<TaskDto> overdue = taskRepository.findOverdueDtoPageByUser(now, testUser, FIRST_DATE_TIME, FIRST_ID, PAGE);
+
+        // Assert: the COMPLETED task due yesterday is not overdue, the PENDING one due two days ago is
+        assertEquals(1, overdue.size());
+        assertEquals(TaskStatus.PENDING, overdue.get(0).getStatus());
+        assertEquals(overdue.size(), taskRepository.countOverdueTasksByUser(now, testUser));
+    }
+
+    @Test
+    void testOrderedQuery_SortsByPriorityRankThenDueDate() {
+        // Act
+        List<TaskDto> ordered = taskRepository.findOrderedDtoPageAfterDueDate(testUser, -1, FIRST_DATE_TIME, FIRST_ID, PAGE);
+
+        // Assert
+        assertEquals(5, ordered.size());
+        assertEquals(TaskPriority.URGENT, ordered.get(0).getPriority());
+        assertEquals(TaskPriority.LOW, ordered.get(3).getPriority());
+        assertTrue(ordered.get(3).getDueDate().isBefore(ordered.get(4).getDueDate()));
+    }
+
+    @Test
+    void testOrderedPages_VisitEveryTaskOnceWithoutDueDateLast() {
+        // Arrange
+        Task undated = new Task();
+        undated.setId(UUID.randomUUID());
+        undated.setTitle("Undated");
+        undated.setStatus(TaskStatus.PENDING);
+        undated.setPriority(TaskPriority.LOW);
+        undated.setUser(entityManager.find(User.class, testUser.getId()));
+        entityManager.persistAndFlush(undated);
+
+        // Act: walk the listing two rows at a time, continuing after the last row of each page
+        List<TaskDto> visited = new ArrayList<>();
+        List<TaskDto> page = taskRepository.findOrderedDtoPageAfterDueDate(testUser, -1, FIRST_DATE_TIME, FIRST_ID, Limit.of(2));
+        while (!page.isEmpty()) {
+            visited.addAll(page);
+            TaskDto last = page.get(page.size() - 1);
+            int rank = last.getPriority().getRank();
+            UUID lastId = UUID.fromString(last.getId());
+            page = last.getDueDate() != null
+                ? taskRepository.findOrderedDtoPageAfterDueDate(testUser, rank, last.getDueDate(), lastId, Limit.of(2))
+                : taskRepository.findOrderedDtoPageAfterNullDueDate(testUser, rank, lastId, Limit.of(2));
+        }
+
+        // Assert
+        assertEquals(6, visited.size());
+        assertEquals(6, visited.stream().map(TaskDto::getId).distinct().count());
+        assertEquals(TaskPriority.URGENT, visited.get(0).getPriority());
+        assertEquals(undated.getId().toString(), visited.get(5).getId());
+    }
+
+    @Test
+    void testInsertAll_SendsInsertsInJdbcBatches() {
+        // Arrange
+        User owner = entityManager.find(User.class, testUser.getId());
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            Task task = new Task();
+            task.setId(UUID.randomUUID());
+            task.setTitle("Bulk " + i);
+            task.setStatus(TaskStatus.PENDING);
+            task.setPriority(TaskPriority.MEDIUM);
+            task.setUser(owner);
+            tasks.add(task);
+        }
+        statistics.clear();
+
+        // Act
+        taskRepository.insertAll(tasks);
+
+        // Assert: one statement per batch of 50 and table (tasks, task_descriptions) instead of
+        // one per row, and no merge SELECTs
+        assertTrue(statistics.getPrepareStatementCount() <= 6, "Inserts must be batched");
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(125, taskRepository.countByUserAndIsDeletedFalse(testUser));
+    }
+
+    @Test
+    void testInsertAll_KeepsCallerEntitiesManaged() {
+        // Arrange
+        User owner = entityManager.find(User.class, testUser.getId());
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setTitle("Bulk");
+        task.setStatus(TaskStatus.PENDING);
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setUser(owner);
+
+        // Act
+        taskRepository.insertAll(List.of(task));
+
+        // Assert: only the inserted task is detached
+        assertTrue(entityManager.getEntityManager().contains(owner));
+        assertFalse(entityManager.getEntityManager().contains(task));
+    }
+
+    @Test
+    void testUpdateStatusByIdIn_OnlyUpdatesAllowedSourceStatuses() {
+        // Arrange
+        List<UUID> ids = taskRepository.findStatusRowsByFilter(testUser, null, null, null, PAGE).stream()
+            .map(TaskStatusRow::id)
+            .toList();
+
+        // Act: COMPLETED is final, so only the three PENDING tasks may be cancelled
+        int updated = taskRepository.updateStatusByIdIn(ids,
+            List.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS, TaskStatus.CANCELLED),
+            TaskStatus.CANCELLED, now, testUser);
+
+        // Assert
+        assertEquals(5, ids.size());
+        assertEquals(3, updated);
+        assertEquals(3, taskRepository.findStatusRowsByFilter(testUser, TaskStatus.CANCELLED, null, null, PAGE).size());
+        assertEquals(2, taskRepository.findStatusRowsByFilter(testUser, TaskStatus.COMPLETED, null, null, PAGE).size());
+    }
+
+    @Test
+    void testIdPages_FollowTimeOrderedIdsInByteOrder() {
+        // Arrange: ids stored as binary(16) compare byte by byte, unlike UUID.compareTo,
+        // which compares signed halves; the 0x8... id must come after the 0x7... one
+        User owner = entityManager.find(User.class, testUser.getId());
+        UuidV7Generator generator = new UuidV7Generator();
+        List<String> created = new ArrayList<>();
+        for (UUID id : List.of(new UUID(0x7FFFFFFFFFFF7000L, 0x8000000000000000L),
+                new UUID(0x8000000000007000L, 0x8000000000000000L))) {
+            Task task = new Task();
+            task.setId(id);
+            task.setTitle("Edge " + id);
+            task.setStatus(TaskStatus.PENDING);
+            task.setPriority(TaskPriority.LOW);
+            task.setUser(owner);
+            entityManager.persist(task);
+            created.add(id.toString());
+        }
+        User other = new User();
+        other.setId(generator.newId());
+        other.setUsername("orderuser");
+        other.setEmail("order@example.com");
+        other.setPassword("encodedPassword");
+        entityManager.persist(other);
+        List<String> ordered = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Task task = new Task();
+            task.setId(generator.newId());
+            task.setTitle("Ordered " + i);
+            task.setStatus(TaskStatus.PENDING);
+            task.setPriority(TaskPriority.LOW);
+            task.setUser(other);
+            entityManager.persist(task);
+            ordered.add(task.getId().toString());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<String> edges = taskRepository.findDtoPageByUser(testUser, new UUID(0x7000000000000000L, 0L), PAGE).stream()
+            .map(TaskDto::getId)
+            .filter(created::contains)
+            .toList();
+        List<String> page = taskRepository.findDtoPageByUser(other, FIRST_ID, PAGE).stream()
+            .map(TaskDto::getId)
+            .toList();
+
+        // Assert
+        assertEquals(created, edges);
+        assertEquals(ordered, page);
+    }
+
+    @Test
+    void testStatusAndPriority_StoredAsCodes() {
+        // Arrange
+        Task task = taskRepository.findById(taskId).orElseThrow();
+
+        // Act
+        Object[] row = (Object[]) entityManager.getEntityManager()
+            .createNativeQuery("SELECT status, priority FROM tasks WHERE title = 'Task 4'")
+            .getSingleResult();
+
+        // Assert
+        assertEquals(TaskStatus.PENDING, task.getStatus());
+        assertEquals(TaskPriority.LOW, task.getPriority());
+        assertEquals(TaskStatus.PENDING.getCode(), ((Number) row[0]).shortValue());
+        assertEquals(TaskPriority.LOW.getCode(), ((Number) row[1]).shortValue());
+    }
+
+    @Test
+    void testArchive_MovesOldCompletedAndDeletedTasks() {
+        // Arrange: Task 1 completed long ago, Task 2 deleted long ago, Task 3 completed recently
+        LocalDateTime longAgo = now.minusYears(2);
+        for (Task task : taskRepository.findAll()) {
+            if (task.getTitle().equals("Task 2")) {
+                task.setDeleted(true);
+                task.setDeletedAt(longAgo);
+            }
+        }
+        entityManager.flush();
+        // Bypasses @PreUpdate, which would stamp the current time
+        entityManager.getEntityManager()
+            .createQuery("UPDATE Task t SET t.updatedAt = :longAgo WHERE t.title = 'Task 1'")
+            .setParameter("longAgo", longAgo)
+            .executeUpdate();
+        entityManager.clear();
+
+        // Act
+        List<TaskArchiveRow> candidates = taskRepository.findArchivableRows(FIRST_ID, now.minusYears(1),
+            now.minusDays(7), PAGE);
+        List<UUID> candidateIds = candidates.stream().map(TaskArchiveRow::id).toList();
+        List<TaskArchiveRow> rows = taskRepository.lockArchivableRows(candidateIds, now.minusYears(1), now.minusDays(7));
+        int moved = taskRepository.archive(rows.stream().map(TaskArchiveRow::id).toList(), now);
+
+        // Assert
+        assertEquals(2, candidates.size());
+        assertEquals(candidates, rows);
+        assertEquals(2, moved);
+        assertEquals(3, taskRepository.count());
+        List<ArchivedTask> archived = entityManager.getEntityManager()
+            .createQuery("SELECT a FROM ArchivedTask a ORDER BY a.title", ArchivedTask.class)
+            .getResultList();
+        assertEquals(List.of("Task 1", "Task 2"), archived.stream().map(ArchivedTask::getTitle).toList());
+        assertFalse(archived.get(0).isDeleted());
+        assertTrue(archived.get(1).isDeleted());
+        assertEquals(testUser.getId(), archived.get(0).getUserId());
+        assertEquals(TaskStatus.COMPLETED, archived.get(0).getStatus());
+        assertEquals("Description 1", archived.get(0).getDescription());
+        assertEquals(3L, entityManager.getEntityManager()
+            .createQuery("SELECT COUNT(d) FROM TaskDescription d", Long.class)
+            .getSingleResult());
+    }
+
+    private User persistOtherUserWithTask() {
+        User other = new User();
+        other.setId(UUID.randomUUID());
+        other.setUsername("otheruser");
+        other.setEmail("other@example.com");
+        other.setPassword("encodedPassword");
+        entityManager.persist(other);
+
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setTitle("Other task");
+        task.setStatus(TaskStatus.PENDING);
+        task.setPriority(TaskPriority.LOW);
+        task.setUser(other);
+        entityManager.persist(task);
+        entityManager.flush();
+        entityManager.clear();
+        return other;
+    }
+
+    private void assertNoOwnerFetch(long expectedStatements) {
+        assertEquals(0, statistics.getEntityStatistics(User.class.getName()).getLoadCount(),
+            "User must not be loaded by task reads");
+        assertEquals(0, statistics.getEntityStatistics(User.class.getName()).getFetchCount(),
+            "User must not be fetched by task reads");
+        assertEquals(expectedStatements, statistics.getPrepareStatementCount(),
+            "Each task read must be a single statement");
+    }
+}
@@ -0,0 +1,94 @@
+package com.akertesz.task_manager_api.search;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.akertesz.task_manager_api.dto.TaskDto;
+import com.akertesz.task_manager_api.model.TaskPriority;
+import com.akertesz.task_manager_api.model.TaskStatus;
+import com.akertesz.task_manager_api.model.User;
+import com.akertesz.task_manager_api.repository.TaskRepository;
+import com.akertesz.task_manager_api.service.TaskChangedEvent;
+
+@ExtendWith(MockitoExtension.class)
+class FullTextSearchServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @TempDir
+    private Path indexDirectory;
+
+    private User user;
+    private UUID taskId;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(UUID.randomUUID());
+        taskId = UUID.randomUUID();
+    }
+
+    @Test
+    void testSearch_AfterRestartIgnoresSnapshotOfChangedUser() {
+        // Arrange: index and write a snapshot, then restart
+        when(taskRepository.countByUserAndIsDeletedFalse(user)).thenReturn(1L);
+        when(taskRepository.findDtosByUser(user)).thenReturn(List.of(task("Quarterly report")));
+        FullTextSearchService before = newService();
+        assertEquals(1, before.search(user, "report", 10).size());
+        before.shutdown();
+
+        FullTextSearchService after = newService();
+        when(taskRepository.findDtosByUser(user)).thenReturn(List.of(task("Send invoices")));
+
+        // Act: the edit arrives while the user's index is not loaded
+        after.onTaskChanged(saved("Send invoices"));
+
+        // Assert
+        assertTrue(after.search(user, "report", 10).isEmpty());
+        assertEquals(taskId, after.search(user, "invoices", 10).get(0).taskId());
+    }
+
+    @Test
+    void testEvictIdle_ReloadsUpdatedIndexFromSnapshot() {
+        // Arrange
+        when(taskRepository.countByUserAndIsDeletedFalse(user)).thenReturn(1L);
+        when(taskRepository.findDtosByUser(user)).thenReturn(List.of(task("Quarterly report")));
+        FullTextSearchService service = newService();
+        service.search(user, "report", 10);
+        service.onTaskChanged(saved("Send invoices"));
+
+        // Act
+        service.evictIdle();
+
+        // Assert: reloaded from the flushed snapshot, which already holds the update
+        assertEquals(taskId, service.search(user, "invoices", 10).get(0).taskId());
+        verify(taskRepository, times(1)).findDtosByUser(user);
+    }
+
+    private FullTextSearchService newService() {
+        return new FullTextSearchService(taskRepository, new TextAnalyzer(true), indexDirectory.toString(), Duration.ZERO);
+    }
+
+    private TaskChangedEvent saved(String title) {
+        return new TaskChangedEvent(user.getId(), taskId, title, null, TaskPriority.MEDIUM, null, null, false);
+    }
+
+    private TaskDto task(String title) {
+        return new TaskDto(taskId, title, null, TaskStatus.PENDING, TaskPriority.MEDIUM, null, null, null);
+    }
+}
@@ -0,0 +1,114 @@
+package com.akertesz.task_manager_api.search;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InvertedIndexTest {
+
+    private TextAnalyzer analyzer;
+    private InvertedIndex index;
+    private UUID reportTask;
+    private UUID invoiceTask;
+    private UUID meetingTask;
+
+    @BeforeEach
+    void setUp() {
+        analyzer = new TextAnalyzer(true);
+        index = new InvertedIndex();
+
+        reportTask = UUID.randomUUID();
+        invoiceTask = UUID.randomUUID();
+        meetingTask = UUID.randomUUID();
+
+        put(reportTask, "Quarterly report", "Collect figures for the finance report");
+        put(invoiceTask, "Send invoices", "Finance needs the invoices before Friday");
+        put(meetingTask, "Team meeting", "Discuss the quarterly roadmap");
+    }
+
+    @Test
+    void testAnalyzer_TokenizesCaseFoldsAndStems() {
+        assertEquals(List.of("fix", "failing", "report", "bug"), new TextAnalyzer(false).analyze("Fix FAILING report-bug"));
+        assertEquals(List.of("fix", "fail", "report", "bug"), analyzer.analyze("Fix FAILING reports, bugs!"));
+    }
+
+    @Test
+    void testSearch_AllTermsMustMatchByDefault() {
+        List<SearchHit> hits = search("quarterly report", true);
+
+        assertEquals(1, hits.size());
+        assertEquals(reportTask, hits.get(0).taskId());
+    }
+
+    @Test
+    void testSearch_AnyTermMatchesInOrMode() {
+        List<SearchHit> hits = search("invoice meeting", false);
+
+        assertEquals(2, hits.size());
+    }
+
+    @Test
+    void testSearch_MissingTermInAndModeReturnsNothing() {
+        assertTrue(search("report unicorn", true).isEmpty());
+    }
+
+    @Test
+    void testSearch_RanksTitleMatchesAboveDescriptionMatches() {
+        List<SearchHit> hits = search("quarterly", true);
+
+        assertEquals(2, hits.size());
+        assertEquals(reportTask, hits.get(0).taskId());
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+
+    @Test
+    void testSearch_RespectsLimit() {
+        assertEquals(1, index.search(analyzer.analyze("finance quarterly"), false, 1).size());
+    }
+
+    @Test
+    void testPut_ReindexReplacesOldTerms() {
+        put(reportTask, "Annual summary", null);
+
+        assertTrue(search("quarterly report", true).isEmpty());
+        assertEquals(reportTask, search("annual", true).get(0).taskId());
+    }
+
+    @Test
+    void testRemove_DropsTaskFromResults() {
+        index.remove(invoiceTask);
+
+        assertTrue(search("invoice", true).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void testWriteAndRead_RoundTripsIndex() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+
+        InvertedIndex restored = InvertedIndex.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(index.size(), restored.size());
+        assertEquals(new HashSet<>(search("finance", false)),
+            new HashSet<>(restored.search(analyzer.analyze("finance"), false, 10)));
+    }
+
+    private void put(UUID taskId, String title, String description) {
+        index.put(taskId, analyzer.analyze(title), analyzer.analyze(description));
+    }
+
+    private List<SearchHit> search(String query, boolean matchAll) {
+        return index.search(analyzer.analyze(query), matchAll, 10);
+    }
+}
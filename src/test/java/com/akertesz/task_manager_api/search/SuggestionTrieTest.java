@@ -0,0 +1,77 @@
+package com.akertesz.task_manager_api.search;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.akertesz.task_manager_api.model.TaskPriority;
+
+class SuggestionTrieTest {
+
+    private SuggestionTrie trie;
+    private LocalDateTime now;
+    private UUID reportTask;
+    private UUID reviewTask;
+    private UUID releaseTask;
+
+    @BeforeEach
+    void setUp() {
+        trie = new SuggestionTrie();
+        now = LocalDateTime.now();
+        reportTask = UUID.randomUUID();
+        reviewTask = UUID.randomUUID();
+        releaseTask = UUID.randomUUID();
+
+        trie.put(reportTask, "Quarterly report", TaskPriority.MEDIUM, now.minusDays(2));
+        trie.put(reviewTask, "Review pull request", TaskPriority.MEDIUM, now.minusDays(1));
+        trie.put(releaseTask, "Release notes", TaskPriority.URGENT, now.minusDays(3));
+    }
+
+    @Test
+    void testSuggest_MatchesWordStartsAnywhereInTitle() {
+        assertEquals(List.of(reportTask), ids(trie.suggest("rep", 10)));
+        assertEquals(List.of(reportTask), ids(trie.suggest("Quarterly Re", 10)));
+    }
+
+    @Test
+    void testSuggest_RanksByPriorityThenRecency() {
+        assertEquals(List.of(releaseTask, reviewTask, reportTask), ids(trie.suggest("r", 10)));
+    }
+
+    @Test
+    void testSuggest_RespectsLimit() {
+        assertEquals(List.of(releaseTask, reviewTask), ids(trie.suggest("r", 2)));
+    }
+
+    @Test
+    void testSuggest_UnknownPrefixReturnsNothing() {
+        assertTrue(trie.suggest("rex", 10).isEmpty());
+        assertTrue(trie.suggest("  ", 10).isEmpty());
+    }
+
+    @Test
+    void testPut_ReplacesOldTitle() {
+        trie.put(reportTask, "Annual summary", TaskPriority.LOW, now);
+
+        assertEquals(List.of(releaseTask, reviewTask), ids(trie.suggest("re", 10)));
+        assertEquals(List.of(reportTask), ids(trie.suggest("sum", 10)));
+    }
+
+    @Test
+    void testRemove_DropsTaskAndKeepsSiblings() {
+        trie.remove(reviewTask);
+
+        assertEquals(List.of(releaseTask, reportTask), ids(trie.suggest("re", 10)));
+        assertTrue(trie.suggest("pull", 10).isEmpty());
+        assertEquals(2, trie.size());
+    }
+
+    private List<UUID> ids(List<SuggestionTrie.Suggestion> suggestions) {
+        return suggestions.stream().map(SuggestionTrie.Suggestion::taskId).toList();
+    }
+}
@@ -0,0 +1,75 @@
+package com.akertesz.task_manager_api.search;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TrigramIndexTest {
+
+    private static final double MIN_SIMILARITY = 0.3;
+
+    private TrigramIndex index;
+    private UUID reportTask;
+    private UUID invoiceTask;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        reportTask = UUID.randomUUID();
+        invoiceTask = UUID.randomUUID();
+
+        index.put(reportTask, "Quarterly report");
+        index.put(invoiceTask, "Send invoices");
+    }
+
+    @Test
+    void testTrigrams_PadsEachWord() {
+        assertEquals(Set.of("  c", " ca", "cat", "at "), TrigramIndex.trigrams("Cat"));
+    }
+
+    @Test
+    void testSearch_MatchesMisspelledTitle() {
+        List<SearchHit> hits = index.search("quartely reprot", MIN_SIMILARITY, 10);
+
+        assertEquals(1, hits.size());
+        assertEquals(reportTask, hits.get(0).taskId());
+    }
+
+    @Test
+    void testSearch_OrdersBySimilarityAndRespectsLimit() {
+        UUID closer = UUID.randomUUID();
+        index.put(closer, "Send invoice");
+
+        List<SearchHit> hits = index.search("send invoice", MIN_SIMILARITY, 1);
+
+        assertEquals(1, hits.size());
+        assertEquals(closer, hits.get(0).taskId());
+        assertEquals(1.0, hits.get(0).score());
+    }
+
+    @Test
+    void testSearch_DropsMatchesBelowThreshold() {
+        assertTrue(index.search("unrelated", MIN_SIMILARITY, 10).isEmpty());
+    }
+
+    @Test
+    void testPut_ReplacesOldTitle() {
+        index.put(reportTask, "Annual summary");
+
+        assertTrue(index.search("quarterly report", MIN_SIMILARITY, 10).isEmpty());
+        assertEquals(reportTask, index.search("anual sumary", MIN_SIMILARITY, 10).get(0).taskId());
+    }
+
+    @Test
+    void testRemove_DropsTaskFromResults() {
+        index.remove(invoiceTask);
+
+        assertTrue(index.search("send invoices", MIN_SIMILARITY, 10).isEmpty());
+        assertEquals(1, index.size());
+    }
+}
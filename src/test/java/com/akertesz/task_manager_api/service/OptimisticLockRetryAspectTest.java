@@ -0,0 +1,90 @@
+package com.akertesz.task_manager_api.service;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import com.akertesz.task_manager_api.config.RetryProperties;
+import com.akertesz.task_manager_api.model.Task;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OptimisticLockRetryAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConflictingUpdate target;
+    private ConflictingUpdate proxy;
+
+    @BeforeEach
+    void setUp() {
+        RetryProperties properties = new RetryProperties();
+        properties.setMaxAttempts(3);
+        properties.setInitialBackoff(Duration.ofMillis(1));
+        properties.setMaxBackoff(Duration.ofMillis(2));
+        meterRegistry = new SimpleMeterRegistry();
+        target = new ConflictingUpdate();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new OptimisticLockRetryAspect(properties, meterRegistry));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    void testConflict_RetriedUntilAttemptSucceeds() {
+        // Arrange
+        target.conflicts = 2;
+
+        // Act
+        String result = proxy.update();
+
+        // Assert
+        assertEquals("updated", result);
+        assertEquals(3, target.attempts);
+        assertEquals(2.0, meterRegistry.get("tasks.lock.conflicts").tag("method", "update").counter().count());
+        assertEquals(2.0, meterRegistry.get("tasks.lock.retries").tag("method", "update").counter().count());
+    }
+
+    @Test
+    void testConflict_RethrownWhenAttemptsRunOut() {
+        // Arrange
+        target.conflicts = 5;
+
+        // Act & Assert
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> proxy.update());
+        assertEquals(3, target.attempts);
+        assertEquals(1.0, meterRegistry.get("tasks.lock.exhausted").tag("method", "update").counter().count());
+    }
+
+    @Test
+    void testOtherFailure_NotRetried() {
+        // Arrange
+        target.failure = new IllegalStateException("Invalid status transition");
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> proxy.update());
+        assertEquals(1, target.attempts);
+    }
+
+    static class ConflictingUpdate {
+
+        int conflicts;
+        int attempts;
+        RuntimeException failure;
+
+        @RetryOnConflict
+        public String update() {
+            attempts++;
+            if (failure != null) {
+                throw failure;
+            }
+            if (attempts <= conflicts) {
+                throw new ObjectOptimisticLockingFailureException(Task.class, "task");
+            }
+            return "updated";
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.akertesz.task_manager_api.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.akertesz.task_manager_api.config.ArchiveProperties;
+import com.akertesz.task_manager_api.config.PaginationProperties;
+import com.akertesz.task_manager_api.dto.TaskDto;
+import com.akertesz.task_manager_api.dto.TaskPage;
+import com.akertesz.task_manager_api.model.TaskPriority;
+import com.akertesz.task_manager_api.model.TaskStatus;
+import com.akertesz.task_manager_api.model.User;
+import com.akertesz.task_manager_api.repository.ArchivedTaskRepository;
+import com.akertesz.task_manager_api.repository.TaskArchiveRow;
+import com.akertesz.task_manager_api.repository.TaskRepository;
+import com.akertesz.task_manager_api.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TaskArchiveServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskArchiveService archiveService;
+    private ArchiveProperties properties;
+    private PaginationProperties pagination;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ArchiveProperties();
+        properties.setBatchSize(2);
+        properties.setBatchPause(Duration.ZERO);
+        pagination = new PaginationProperties();
+        archiveService = new TaskArchiveService(taskRepository, archivedTaskRepository, userRepository, eventPublisher,
+                properties, pagination, transactionManager, new TaskExecutorAdapter(new SyncTaskExecutor()));
+    }
+
+    @Test
+    void testArchiveTasks_MovesBatchesUntilShortBatch() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        TaskArchiveRow completed = new TaskArchiveRow(new UUID(0L, 1L), userId, false);
+        TaskArchiveRow deleted = new TaskArchiveRow(new UUID(0L, 2L), userId, true);
+        TaskArchiveRow last = new TaskArchiveRow(new UUID(0L, 3L), userId, false);
+        when(taskRepository.findArchivableRows(eq(TaskCursor.MIN_ID), any(LocalDateTime.class), any(LocalDateTime.class),
+                eq(Limit.of(2)))).thenReturn(List.of(completed, deleted));
+        when(taskRepository.findArchivableRows(eq(deleted.id()), any(LocalDateTime.class), any(LocalDateTime.class),
+                eq(Limit.of(2)))).thenReturn(List.of(last));
+        when(taskRepository.lockArchivableRows(eq(List.of(completed.id(), deleted.id())), any(LocalDateTime.class),
+                any(LocalDateTime.class))).thenReturn(List.of(completed, deleted));
+        when(taskRepository.lockArchivableRows(eq(List.of(last.id())), any(LocalDateTime.class),
+                any(LocalDateTime.class))).thenReturn(List.of(last));
+
+        // Act
+        long archived = archiveService.archiveTasks();
+
+        // Assert: each batch moved in its own transaction; deleted tasks are not re-announced
+        assertEquals(3, archived);
+        verify(taskRepository).archive(eq(List.of(completed.id(), deleted.id())), any(LocalDateTime.class));
+        verify(taskRepository).archive(eq(List.of(last.id())), any(LocalDateTime.class));
+        verify(transactionManager, times(2)).commit(any());
+        verify(eventPublisher).publishEvent(TaskChangedEvent.deleted(userId, completed.id()));
+        verify(eventPublisher).publishEvent(TaskChangedEvent.deleted(userId, last.id()));
+        verify(eventPublisher, never()).publishEvent(TaskChangedEvent.deleted(userId, deleted.id()));
+    }
+
+    @Test
+    void testArchiveTasks_SkipsCandidatesThatNoLongerQualify() {
+        // Arrange: the second candidate was reopened between the scan and the move
+        UUID userId = UUID.randomUUID();
+        TaskArchiveRow completed = new TaskArchiveRow(new UUID(0L, 1L), userId, false);
+        TaskArchiveRow reopened = new TaskArchiveRow(new UUID(0L, 2L), userId, false);
+        when(taskRepository.findArchivableRows(eq(TaskCursor.MIN_ID), any(LocalDateTime.class), any(LocalDateTime.class),
+                eq(Limit.of(2)))).thenReturn(List.of(completed, reopened));
+        when(taskRepository.lockArchivableRows(eq(List.of(completed.id(), reopened.id())), any(LocalDateTime.class),
+                any(LocalDateTime.class))).thenReturn(List.of(completed));
+
+        // Act
+        long archived = archiveService.archiveTasks();
+
+        // Assert: the scan still continues after the skipped candidate
+        assertEquals(1, archived);
+        verify(taskRepository).archive(eq(List.of(completed.id())), any(LocalDateTime.class));
+        verify(taskRepository).findArchivableRows(eq(reopened.id()), any(LocalDateTime.class), any(LocalDateTime.class),
+                eq(Limit.of(2)));
+        verify(eventPublisher, never()).publishEvent(TaskChangedEvent.deleted(userId, reopened.id()));
+    }
+
+    @Test
+    void testScheduleArchive_DoesNothingWhenDisabled() {
+        // Arrange
+        properties.setEnabled(false);
+
+        // Act
+        archiveService.scheduleArchive();
+
+        // Assert
+        verify(taskRepository, never()).findArchivableRows(any(), any(), any(), any());
+    }
+
+    @Test
+    void testGetArchivedTasks_ReturnsPageWithCursor() {
+        // Arrange
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        when(userRepository.findByUsername("testuser")).thenReturn(user);
+        TaskDto first = archived(new UUID(0L, 1L));
+        TaskDto second = archived(new UUID(0L, 2L));
+        when(archivedTaskRepository.findDtoPageByUserId(user.getId(), TaskCursor.MIN_ID, Limit.of(2)))
+                .thenReturn(List.of(first, second));
+        when(archivedTaskRepository.findDtoPageByUserId(user.getId(), new UUID(0L, 1L), Limit.of(2)))
+                .thenReturn(List.of(second));
+
+        // Act
+        TaskPage page = archiveService.getArchivedTasks("testuser", null, 1);
+        TaskPage next = archiveService.getArchivedTasks("testuser", page.getNextCursor(), 1);
+
+        // Assert
+        assertEquals(List.of(first), page.getTasks());
+        assertNotNull(page.getNextCursor());
+        assertEquals(List.of(second), next.getTasks());
+        assertNull(next.getNextCursor());
+    }
+
+    private TaskDto archived(UUID id) {
+        return new TaskDto(id, "Archived " + id, null, TaskStatus.COMPLETED, TaskPriority.LOW,
+                LocalDateTime.now().minusYears(2), LocalDateTime.now().minusYears(2), null);
+    }
+}
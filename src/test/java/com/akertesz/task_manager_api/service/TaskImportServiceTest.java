@@ -0,0 +1,153 @@
+package com.akertesz.task_manager_api.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.akertesz.task_manager_api.config.ImportProperties;
+import com.akertesz.task_manager_api.dto.ImportJobDto;
+import com.akertesz.task_manager_api.id.UuidV7Generator;
+import com.akertesz.task_manager_api.model.ImportFormat;
+import com.akertesz.task_manager_api.model.ImportJob;
+import com.akertesz.task_manager_api.model.ImportStatus;
+import com.akertesz.task_manager_api.model.User;
+import com.akertesz.task_manager_api.repository.ImportJobRepository;
+import com.akertesz.task_manager_api.repository.TaskRepository;
+import com.akertesz.task_manager_api.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+class TaskImportServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ImportJobRepository importJobRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskImportService importService;
+    private User testUser;
+    private String username;
+
+    @BeforeEach
+    void setUp() {
+        ImportProperties properties = new ImportProperties();
+        properties.setBatchSize(2);
+        properties.setQueueCapacity(1);
+        importService = new TaskImportService(taskRepository, userRepository, importJobRepository, eventPublisher,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper().findAndRegisterModules(),
+                properties, new UuidV7Generator(), transactionManager, new SimpleAsyncTaskExecutor());
+
+        username = "testuser";
+        testUser = new User();
+        testUser.setId(UUID.randomUUID());
+        testUser.setUsername(username);
+        when(userRepository.findByUsername(username)).thenReturn(testUser);
+    }
+
+    @Test
+    void testImportTasks_CommitsBatchesWithCheckpoints() throws Exception {
+        // Arrange
+        when(importJobRepository.save(any(ImportJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(importJobRepository.recordProgress(any(UUID.class), anyLong(), anyLong(), anyLong(), anyLong(),
+                any(LocalDateTime.class))).thenReturn(1);
+        when(importJobRepository.findById(any(UUID.class)))
+                .thenAnswer(invocation -> Optional.of(job(invocation.getArgument(0), ImportStatus.COMPLETED, 5)));
+        String csv = "title,priority\n"
+                + "One,HIGH\nTwo,LOW\nThree,SOMEDAY\nFour,MEDIUM\nFive,URGENT\n";
+
+        // Act
+        ImportJobDto result = importService.importTasks(username, ImportFormat.CSV, input(csv), null);
+
+        // Assert: two records per batch, the rejected one included in its batch's checkpoint
+        assertEquals(ImportStatus.COMPLETED, result.getStatus());
+        assertEquals(1, result.getRowErrors().size());
+        assertEquals(3, result.getRowErrors().get(0).getIndex());
+        verify(importJobRepository).recordProgress(any(UUID.class), eq(0L), eq(2L), eq(2L), eq(0L), any(LocalDateTime.class));
+        verify(importJobRepository).recordProgress(any(UUID.class), eq(2L), eq(4L), eq(1L), eq(1L), any(LocalDateTime.class));
+        verify(importJobRepository).recordProgress(any(UUID.class), eq(4L), eq(5L), eq(1L), eq(0L), any(LocalDateTime.class));
+        verify(taskRepository, times(3)).insertAll(anyList());
+    }
+
+    @Test
+    void testImportTasks_ResumesAfterCheckpoint() throws Exception {
+        // Arrange
+        UUID jobId = UUID.randomUUID();
+        ImportJob interrupted = job(jobId, ImportStatus.FAILED, 2);
+        interrupted.setFormat(ImportFormat.NDJSON);
+        when(importJobRepository.findByIdAndUser(jobId, testUser)).thenReturn(Optional.of(interrupted));
+        when(importJobRepository.save(interrupted)).thenReturn(interrupted);
+        when(importJobRepository.recordProgress(eq(jobId), anyLong(), anyLong(), anyLong(), anyLong(),
+                any(LocalDateTime.class))).thenReturn(1);
+        when(importJobRepository.findById(jobId)).thenReturn(Optional.of(interrupted));
+        String ndjson = "{\"title\":\"One\",\"priority\":\"HIGH\"}\n"
+                + "{\"title\":\"Two\",\"priority\":\"HIGH\"}\n"
+                + "{\"title\":\"Three\",\"priority\":\"HIGH\"}\n";
+
+        // Act
+        importService.importTasks(username, ImportFormat.NDJSON, input(ndjson), jobId);
+
+        // Assert: only the third record is imported
+        verify(importJobRepository).recordProgress(eq(jobId), eq(2L), eq(3L), eq(1L), eq(0L), any(LocalDateTime.class));
+        verify(taskRepository, times(1)).insertAll(anyList());
+        verify(importJobRepository).finish(eq(jobId), eq(ImportStatus.COMPLETED), isNull(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void testImportTasks_FailsWhenCheckpointWasMovedByAnotherRun() {
+        // Arrange
+        when(importJobRepository.save(any(ImportJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(importJobRepository.recordProgress(any(UUID.class), anyLong(), anyLong(), anyLong(), anyLong(),
+                any(LocalDateTime.class))).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> importService.importTasks(username, ImportFormat.CSV, input("title,priority\nOne,HIGH\n"), null));
+        verify(importJobRepository).finish(any(UUID.class), eq(ImportStatus.FAILED), anyString(), any(LocalDateTime.class));
+    }
+
+    private ImportJob job(UUID id, ImportStatus status, long processedRows) {
+        ImportJob job = new ImportJob(id, testUser, ImportFormat.CSV);
+        job.setStatus(status);
+        job.setProcessedRows(processedRows);
+        return job;
+    }
+
+    private static InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,118 @@
+package com.akertesz.task_manager_api.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.akertesz.task_manager_api.config.PurgeProperties;
+import com.akertesz.task_manager_api.repository.ArchivedTaskRepository;
+import com.akertesz.task_manager_api.repository.TaskRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TaskPurgeServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskPurgeService purgeService;
+    private PurgeProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PurgeProperties();
+        properties.setBatchSize(2);
+        properties.setMaxRowsPerSecond(1_000_000);
+        meterRegistry = new SimpleMeterRegistry();
+        purgeService = new TaskPurgeService(taskRepository, archivedTaskRepository, properties, transactionManager,
+                new TaskExecutorAdapter(new SyncTaskExecutor()), meterRegistry);
+    }
+
+    @Test
+    void testPurgeTasks_DeletesBatchesFromBothTablesUntilShortBatch() {
+        // Arrange
+        UUID first = new UUID(0L, 1L);
+        UUID second = new UUID(0L, 2L);
+        UUID third = new UUID(0L, 3L);
+        UUID archived = new UUID(0L, 4L);
+        when(taskRepository.findPurgeableIds(eq(TaskCursor.MIN_ID), any(LocalDateTime.class), eq(Limit.of(2))))
+                .thenReturn(List.of(first, second));
+        when(taskRepository.findPurgeableIds(eq(second), any(LocalDateTime.class), eq(Limit.of(2))))
+                .thenReturn(List.of(third));
+        when(archivedTaskRepository.findPurgeableIds(eq(TaskCursor.MIN_ID), any(LocalDateTime.class), eq(Limit.of(2))))
+                .thenReturn(List.of(archived));
+
+        // Act
+        long purged = purgeService.purgeTasks();
+
+        // Assert: one transaction per batch, progress counted per table
+        assertEquals(4, purged);
+        verify(taskRepository).purgeByIdIn(List.of(first, second));
+        verify(taskRepository).purgeByIdIn(List.of(third));
+        verify(archivedTaskRepository).purgeByIdIn(List.of(archived));
+        verify(transactionManager, times(3)).commit(any());
+        assertEquals(3.0, meterRegistry.get("tasks.purge.rows").tag("table", "tasks").counter().count());
+        assertEquals(1.0, meterRegistry.get("tasks.purge.rows").tag("table", "archived_tasks").counter().count());
+        assertEquals(3, meterRegistry.get("tasks.purge.batch").timer().count());
+    }
+
+    @Test
+    void testPurgeTasks_BacksOffAfterSlowBatch() {
+        // Arrange: every batch counts as slow
+        properties.setLatencyThreshold(Duration.ZERO);
+        properties.setBackoff(Duration.ZERO);
+        UUID first = new UUID(0L, 1L);
+        UUID second = new UUID(0L, 2L);
+        when(taskRepository.findPurgeableIds(eq(TaskCursor.MIN_ID), any(LocalDateTime.class), eq(Limit.of(2))))
+                .thenReturn(List.of(first, second));
+        when(taskRepository.findPurgeableIds(eq(second), any(LocalDateTime.class), eq(Limit.of(2))))
+                .thenReturn(List.of());
+        when(archivedTaskRepository.findPurgeableIds(eq(TaskCursor.MIN_ID), any(LocalDateTime.class), eq(Limit.of(2))))
+                .thenReturn(List.of());
+
+        // Act
+        purgeService.purgeTasks();
+
+        // Assert: only a full batch is followed by another one, so only it can back off
+        assertEquals(1.0, meterRegistry.get("tasks.purge.backoffs").counter().count());
+    }
+
+    @Test
+    void testSchedulePurge_DoesNothingWhenDisabled() {
+        // Arrange
+        properties.setEnabled(false);
+
+        // Act
+        purgeService.schedulePurge();
+
+        // Assert
+        verify(taskRepository, never()).findPurgeableIds(any(), any(), any());
+        verify(archivedTaskRepository, never()).findPurgeableIds(any(), any(), any());
+    }
+}
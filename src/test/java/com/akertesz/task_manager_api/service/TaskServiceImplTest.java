@@ -1,40 +1,67 @@
 package com.akertesz.task_manager_api.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+
+import com.akertesz.task_manager_api.config.PaginationProperties;
+import com.akertesz.task_manager_api.dto.BulkItemStatus;
+import com.akertesz.task_manager_api.dto.BulkResponse;
+import com.akertesz.task_manager_api.dto.BulkTaskFilter;
+import com.akertesz.task_manager_api.dto.BulkTaskUpdateRequest;
 import com.akertesz.task_manager_api.dto.CreateTaskRequest;
 import com.akertesz.task_manager_api.dto.TaskDto;
+import com.akertesz.task_manager_api.dto.TaskPage;
 import com.akertesz.task_manager_api.dto.UpdateTaskRequest;
 import com.akertesz.task_manager_api.exception.InvalidRequestException;
 import com.akertesz.task_manager_api.exception.TaskNotFoundException;
 import com.akertesz.task_manager_api.exception.UserNotFoundException;
+import com.akertesz.task_manager_api.id.IdGenerator;
+import com.akertesz.task_manager_api.id.UuidV7Generator;
 import com.akertesz.task_manager_api.model.Task;
 import com.akertesz.task_manager_api.model.TaskPriority;
 import com.akertesz.task_manager_api.model.TaskStatus;
 import com.akertesz.task_manager_api.model.User;
+import com.akertesz.task_manager_api.repository.TaskDescriptionRow;
 import com.akertesz.task_manager_api.repository.TaskRepository;
+import com.akertesz.task_manager_api.repository.TaskStatusRow;
 import com.akertesz.task_manager_api.repository.UserRepository;
+import com.akertesz.task_manager_api.search.FullTextSearchService;
+import com.akertesz.task_manager_api.search.FuzzySearchService;
+import com.akertesz.task_manager_api.search.SearchHit;
+import com.akertesz.task_manager_api.search.SuggestionService;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 
 @ExtendWith(MockitoExtension.class)
 class TaskServiceImplTest {
@@ -45,6 +72,27 @@ class TaskServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private FullTextSearchService fullTextSearchService;
+
+    @Mock
+    private FuzzySearchService fuzzySearchService;
+
+    @Mock
+    private SuggestionService suggestionService;
+
+    @Spy
+    private PaginationProperties pagination = new PaginationProperties();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Spy
+    private IdGenerator idGenerator = new UuidV7Generator();
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -97,6 +145,7 @@ class TaskServiceImplTest {
         assertNotNull(result);
         verify(taskRepository).save(any(Task.class));
         verify(userRepository).findByUsername(username);
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
     }
 
     @Test
@@ -116,6 +165,121 @@ class TaskServiceImplTest {
         verify(taskRepository, never()).save(any(Task.class));
     }
 
+    // Bulk Create Tests
+    @Test
+    void testCreateTasks_InsertsValidItemsAndReportsInvalidOnes() {
+        // Arrange
+        CreateTaskRequest valid = new CreateTaskRequest("New Task");
+        valid.setPriority(TaskPriority.HIGH);
+        CreateTaskRequest invalid = new CreateTaskRequest("");
+        when(userRepository.findByUsername(username)).thenReturn(testUser);
+
+        // Act
+        BulkResponse result = taskService.createTasks(Arrays.asList(valid, invalid, null, valid), username);
+
+        // Assert
+        assertEquals(2, result.getSucceeded());
+        assertEquals(2, result.getFailed());
+        assertEquals(BulkItemStatus.CREATED, result.getResults().get(0).getStatus());
+        assertNotNull(result.getResults().get(0).getId());
+        assertEquals(BulkItemStatus.INVALID, result.getResults().get(1).getStatus());
+        assertTrue(result.getResults().get(1).getErrors().containsKey("title"));
+        assertTrue(result.getResults().get(1).getErrors().containsKey("priority"));
+        assertEquals(BulkItemStatus.INVALID, result.getResults().get(2).getStatus());
+        assertEquals(3, result.getResults().get(3).getIndex());
+        verify(userRepository).findByUsername(username);
+        verify(taskRepository).insertAll(argThat(tasks -> tasks.size() == 2));
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(eventPublisher, times(2)).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    // Bulk Update Tests
+    @Test
+    void testChangeTasksStatus_UpdatesAllowedTasksAndReportsTheRest() {
+        // Arrange
+        UUID pendingId = UUID.randomUUID();
+        UUID completedId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        BulkTaskUpdateRequest request = new BulkTaskUpdateRequest();
+        request.setIds(Arrays.asList(pendingId.toString(), completedId.toString(), missingId.toString(), "not-a-uuid"));
+        request.setStatus(TaskStatus.IN_PROGRESS);
+        when(userRepository.findByUsername(username)).thenReturn(testUser);
+        when(taskRepository.findStatusRowsByIdInAndUser(any(), eq(testUser))).thenReturn(Arrays.asList(
+                new TaskStatusRow(pendingId, TaskStatus.PENDING),
+                new TaskStatusRow(completedId, TaskStatus.COMPLETED)));
+        when(taskRepository.updateStatusByIdIn(any(), any(), any(), any(), any())).thenReturn(1);
+
+        // Act
+        BulkResponse result = taskService.changeTasksStatus(request, username);
+
+        // Assert
+        assertEquals(1, result.getSucceeded());
+        assertEquals(3, result.getFailed());
+        assertEquals(BulkItemStatus.UPDATED, result.getResults().get(0).getStatus());
+        assertEquals(BulkItemStatus.INVALID_TRANSITION, result.getResults().get(1).getStatus());
+        assertTrue(result.getResults().get(1).getErrors().containsKey("status"));
+        assertEquals(BulkItemStatus.NOT_FOUND, result.getResults().get(2).getStatus());
+        assertEquals(BulkItemStatus.INVALID, result.getResults().get(3).getStatus());
+        verify(taskRepository).updateStatusByIdIn(eq(List.of(pendingId)),
+                argThat(from -> from.contains(TaskStatus.PENDING) && !from.contains(TaskStatus.COMPLETED)),
+                eq(TaskStatus.IN_PROGRESS), any(LocalDateTime.class), eq(testUser));
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void testDeleteTasks_ByFilter() {
+        // Arrange
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        BulkTaskUpdateRequest request = new BulkTaskUpdateRequest();
+        request.setFilter(new BulkTaskFilter(TaskStatus.COMPLETED, null, null));
+        when(userRepository.findByUsername(username)).thenReturn(testUser);
+        when(taskRepository.findStatusRowsByFilter(eq(testUser), eq(TaskStatus.COMPLETED), isNull(), isNull(),
+                any(Limit.class))).thenReturn(Arrays.asList(
+                        new TaskStatusRow(firstId, TaskStatus.COMPLETED),
+                        new TaskStatusRow(secondId, TaskStatus.COMPLETED)));
+        when(taskRepository.softDeleteByIdIn(any(), any(), any())).thenReturn(2);
+
+        // Act
+        BulkResponse result = taskService.deleteTasks(request, username);
+
+        // Assert
+        assertEquals(2, result.getSucceeded());
+        assertEquals(0, result.getFailed());
+        assertEquals(BulkItemStatus.DELETED, result.getResults().get(1).getStatus());
+        verify(taskRepository).softDeleteByIdIn(eq(List.of(firstId, secondId)), any(LocalDateTime.class), eq(testUser));
+        verify(eventPublisher, times(2)).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    void testDeleteTasks_FailsWhenNotEveryTargetWasDeleted() {
+        // Arrange
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        BulkTaskUpdateRequest request = new BulkTaskUpdateRequest();
+        request.setIds(Arrays.asList(firstId.toString(), secondId.toString()));
+        when(userRepository.findByUsername(username)).thenReturn(testUser);
+        when(taskRepository.findStatusRowsByIdInAndUser(any(), eq(testUser))).thenReturn(Arrays.asList(
+                new TaskStatusRow(firstId, TaskStatus.PENDING),
+                new TaskStatusRow(secondId, TaskStatus.PENDING)));
+        when(taskRepository.softDeleteByIdIn(any(), any(), any())).thenReturn(1);
+
+        // Act & Assert: nothing is reported or published for a row that did not change
+        assertThrows(IllegalStateException.class, () -> taskService.deleteTasks(request, username));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testChangeTasksPriority_RequiresIdsOrFilter() {
+        // Arrange
+        BulkTaskUpdateRequest request = new BulkTaskUpdateRequest();
+        request.setPriority(TaskPriority.HIGH);
+        when(userRepository.findByUsername(username)).thenReturn(testUser);
+
+        // Act & Assert
+        assertThrows(InvalidRequestException.class, () -> taskService.changeTasksPriority(request, username));
+    }
+
     // Get Task By ID Tests
     @Test
     void testGetTaskById_Success() {
@@ -169,19 +333,72 @@ class TaskServiceImplTest {
     @Test
     void testGetAllTasks_Success() {
         // Arrange
-        List<Task> tasks = Arrays.asList(testTask);
+        List<TaskDto> tasks = Arrays.asList(testTaskDto());
         when(userRepository.findByUsername(username)).thenReturn(testUser);
-        when(taskRepository.findByUserAndIsDeletedFalse(testUser)).thenReturn(tasks);
+        when(taskRepository.findDtoPageByUser(eq(testUser), eq(TaskCursor.MIN_ID), any(Limit.class))).thenReturn(tasks);
 
         // Act
-        List<TaskDto> result = taskService.getAllTasks(username);
+        TaskPage result = taskService.getAllTasks(username, null, null);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(testTask.getId().toString(), result.get(0).getId());
+        assertEquals(1, result.getTasks().size());
+        assertEquals(testTask.getId().toString(), result.getTasks().get(0).getId());
+        assertNull(result.getNextCursor());
         verify(userRepository).findByUsername(username);
-        verify(taskRepository).findByUserAndIsDeletedFalse(testUser);
+        verify(taskRepository).findDtoPageByUser(eq(testUser), eq(TaskCursor.MIN_ID), any(Limit.class));
+    }
+
+    @Test
+    void testIncludeDescriptions_FillsInPageDescriptions() {
+        // Arrange: the second task has no description row
+        TaskDto withDescription = new TaskDto(testTask.getId(), "Test Task", TaskStatus.PENDING, TaskPriority.MEDIUM,
+                null, null, null);
+        UUID otherId = UUID.randomUUID();
+        TaskDto withoutDescription = new TaskDto(otherId, "Other Task", TaskStatus.PENDING, TaskPriority.LOW,
+                null, null, null);
+        TaskPage page = new TaskPage(Arrays.asList(withDescription, withoutDescription), "next");
+        when(userRepository.findByUsername(username)).thenReturn(testUser);
+        when(taskRepository.findDescriptionRowsByIdInAndUser(List.of(testTask.getId(), otherId), testUser))
+                .thenReturn(List.of(new TaskDescriptionRow(testTask.getId(), "Test Description")));
+
+        // Act
+        TaskPage result = taskService.includeDescriptions(page, username);
+
+        // Assert
+        assertEquals("Test Description", result.getTasks().get(0).getDescription());
+        assertNull(result.getTasks().get(1).getDescription());
+        assertEquals("next", result.getNextCursor());
+    }
+
+    @Test
+    void testGetAllTasks_NextCursorContinuesAfterLastTaskOfPage() {
+        // Arrange
+        UUID secondId = UUID.randomUUID();
+        TaskDto second = new TaskDto(secondId, "Second", null, TaskStatus.PENDING, TaskPriority.LOW, now, null, null);
+        when(userRepository.findByUsername(username)).thenReturn(testUser);
+        when(taskRepository.findDtoPageByUser(eq(testUser), eq(TaskCursor.MIN_ID), any(Limit.class)))
+                .thenReturn(Arrays.asList(testTaskDto(), second));
+
+        // Act
+        TaskPage firstPage = taskService.getAllTasks(username, null, 1);
+        taskService.getAllTasks(username, firstPage.getNextCursor(), 1);
+
+        // Assert
+        assertEquals(1, firstPage.getTasks().size());
+        assertNotNull(firstPage.getNextCursor());
+        verify(taskRepository).findDtoPageByUser(eq(testUser), eq(taskId), any(Limit.class));
+    }
+
+    @Test
+    void testGetAllTasks_RejectsInvalidCursorAndLimit() {
+        // Arrange
+        when(userRepository.findByUsername(username)).thenReturn(testUser);
+
+        // Act & Assert
+        assertThrows(InvalidRequestException.class, () -> taskService.getAllTasks(username, "not-a-cursor", null));
+        assertThrows(InvalidRequestException.class, () -> taskService.getAllTasks(username, null, 0));
+        assertThrows(InvalidRequestException.class, () -> taskService.getAllTasks(username, null, 1000));
     }
 
     @Test
@@ -191,11 +408,11 @@ class TaskServiceImplTest {
 
         // Act & Assert
         assertThrows(UserNotFoundException.class, () -> {
-            taskService.getAllTasks(username);
+            taskService.getAllTasks(username, null, null);
         });
         
         verify(userRepository).findByUsername(username);
-        verify(taskRepository, never()).findByUserAndIsDeletedFalse(any());
+        verify(taskRepository, never()).findDtoPageByUser(any(), any(), any());
     }
 
     // Update Task Tests
@@ -267,14 +484,14 @@ class TaskServiceImplTest {
         when(userRepository.findByUsername(username)).thenReturn(testUser);
         when(taskRepository.findByIdAndUserAndIsDeletedFalse(taskId, testUser))
                 .thenReturn(Optional.of(testTask));
-        doNothing().when(taskRepository).deleteTask(taskId, testUser);
+        doNothing().when(taskRepository).deleteTask(eq(taskId), any(LocalDateTime.class), eq(testUser));
 
         // Act
         boolean result = taskService.deleteTask(taskId, username);
 
         // Assert
         assertTrue(result);
-        verify(taskRepository).deleteTask(taskId, testUser);
+        verify(taskRepository).deleteTask(eq(taskId), any(LocalDateTime.class), eq(testUser));
         verify(userRepository).findByUsername(username);
         verify(taskRepository).findByIdAndUserAndIsDeletedFalse(taskId, testUser);
     }
@@ -291,7 +508,7 @@ class TaskServiceImplTest {
         
         verify(userRepository).findByUsername(username);
         verify(taskRepository, never()).findByIdAndUserAndIsDeletedFalse(any(), any());
-        verify(taskRepository, never()).deleteTask(any(), any());
+        verify(taskRepository, never()).deleteTask(any(), any(), any());
     }
 
     @Test
@@ -308,26 +525,41 @@ class TaskServiceImplTest {
         
         verify(userRepository).findByUsername(username);
         verify(taskRepository).findByIdAndUserAndIsDeletedFalse(taskId, testUser);
-        verify(taskRepository, never()).deleteTask(any(), any());
+        verify(taskRepository, never()).deleteTask(any(), any(), any());
+    }
+
+    @Test
+    void testForEachTask_VisitsStreamedTasks() {
+        // Arrange
+        when(userRepository.findByUsername(username)).thenReturn(testUser);
+        when(taskRepository.streamDtosByUser(testUser)).thenReturn(Stream.of(testTaskDto(), testTaskDto()));
+        List<TaskDto> visited = new ArrayList<>();
+
+        // Act
+        taskService.forEachTask(username, visited::add);
+
+        // Assert
+        assertEquals(2, visited.size());
+        verify(taskRepository, never()).findDtosByUser(any());
     }
 
     // Get Tasks By Status Tests
     @Test
     void testGetTasksByStatus_Success() {
         // Arrange
-        List<Task> tasks = Arrays.asList(testTask);
+        List<TaskDto> tasks = Arrays.asList(testTaskDto());
         when(userRepository.findByUsername(username)).thenReturn(testUser);
-        when(taskRepository.findByStatusAndUserAndIsDeletedFalse(TaskStatus.PENDING, testUser))
+        when(taskRepository.findDtoPageByStatusAndUser(eq(TaskStatus.PENDING), eq(testUser), eq(TaskCursor.MIN_ID), any(Limit.class)))
                 .thenReturn(tasks);
 
         // Act
-        List<TaskDto> result = taskService.getTasksByStatus(TaskStatus.PENDING, username);
+        TaskPage result = taskService.getTasksByStatus(TaskStatus.PENDING, username, null, null);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1, result.size());
+        assertEquals(1, result.getTasks().size());
         verify(userRepository).findByUsername(username);
-        verify(taskRepository).findByStatusAndUserAndIsDeletedFalse(TaskStatus.PENDING, testUser);
+        verify(taskRepository).findDtoPageByStatusAndUser(eq(TaskStatus.PENDING), eq(testUser), eq(TaskCursor.MIN_ID), any(Limit.class));
     }
 
     @Test
@@ -337,30 +569,30 @@ class TaskServiceImplTest {
 
         // Act & Assert
         assertThrows(UserNotFoundException.class, () -> {
-            taskService.getTasksByStatus(TaskStatus.PENDING, username);
+            taskService.getTasksByStatus(TaskStatus.PENDING, username, null, null);
         });
         
         verify(userRepository).findByUsername(username);
-        verify(taskRepository, never()).findByStatusAndUserAndIsDeletedFalse(any(), any());
+        verify(taskRepository, never()).findDtoPageByStatusAndUser(any(), any(), any(), any());
     }
 
     // Get Tasks By Priority Tests
     @Test
     void testGetTasksByPriority_Success() {
         // Arrange
-        List<Task> tasks = Arrays.asList(testTask);
+        List<TaskDto> tasks = Arrays.asList(testTaskDto());
         when(userRepository.findByUsername(username)).thenReturn(testUser);
-        when(taskRepository.findByPriorityAndUserAndIsDeletedFalse(TaskPriority.MEDIUM, testUser))
+        when(taskRepository.findDtoPageByPriorityAndUser(eq(TaskPriority.MEDIUM), eq(testUser), eq(TaskCursor.MIN_ID), any(Limit.class)))
                 .thenReturn(tasks);
 
         // Act
-        List<TaskDto> result = taskService.getTasksByPriority(TaskPriority.MEDIUM, username);
+        TaskPage result = taskService.getTasksByPriority(TaskPriority.MEDIUM, username, null, null);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1, result.size());
+        assertEquals(1, result.getTasks().size());
         verify(userRepository).findByUsername(username);
-        verify(taskRepository).findByPriorityAndUserAndIsDeletedFalse(TaskPriority.MEDIUM, testUser);
+        verify(taskRepository).findDtoPageByPriorityAndUser(eq(TaskPriority.MEDIUM), eq(testUser), eq(TaskCursor.MIN_ID), any(Limit.class));
     }
 
     @Test
@@ -370,30 +602,32 @@ class TaskServiceImplTest {
 
         // Act & Assert
         assertThrows(UserNotFoundException.class, () -> {
-            taskService.getTasksByPriority(TaskPriority.MEDIUM, username);
+            taskService.getTasksByPriority(TaskPriority.MEDIUM, username, null, null);
         });
         
         verify(userRepository).findByUsername(username);
-        verify(taskRepository, never()).findByPriorityAndUserAndIsDeletedFalse(any(), any());
+        verify(taskRepository, never()).findDtoPageByPriorityAndUser(any(), any(), any(), any());
     }
 
     // Get Overdue Tasks Tests
     @Test
     void testGetOverdueTasks_Success() {
         // Arrange
-        List<Task> tasks = Arrays.asList(testTask);
+        List<TaskDto> tasks = Arrays.asList(testTaskDto());
         when(userRepository.findByUsername(username)).thenReturn(testUser);
-        when(taskRepository.findByDueDateBeforeAndUserAndIsDeletedFalse(any(LocalDateTime.class), eq(testUser)))
+        when(taskRepository.findOverdueDtoPageByUser(any(LocalDateTime.class), eq(testUser), eq(TaskCursor.MIN_DATE_TIME),
+                eq(TaskCursor.MIN_ID), any(Limit.class)))
                 .thenReturn(tasks);
 
         // Act
-        List<TaskDto> result = taskService.getOverdueTasks(username);
+        TaskPage result = taskService.getOverdueTasks(username, null, null);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1, result.size());
+        assertEquals(1, result.getTasks().size());
         verify(userRepository).findByUsername(username);
-        verify(taskRepository).findByDueDateBeforeAndUserAndIsDeletedFalse(any(LocalDateTime.class), eq(testUser));
+        verify(taskRepository).findOverdueDtoPageByUser(any(LocalDateTime.class), eq(testUser), eq(TaskCursor.MIN_DATE_TIME),
+                eq(TaskCursor.MIN_ID), any(Limit.class));
     }
 
     @Test
@@ -403,30 +637,30 @@ class TaskServiceImplTest {
 
         // Act & Assert
         assertThrows(UserNotFoundException.class, () -> {
-            taskService.getOverdueTasks(username);
+            taskService.getOverdueTasks(username, null, null);
         });
         
         verify(userRepository).findByUsername(username);
-        verify(taskRepository, never()).findByDueDateBeforeAndUserAndIsDeletedFalse(any(), any());
+        verify(taskRepository, never()).findOverdueDtoPageByUser(any(), any(), any(), any(), any());
     }
 
     // Search Tasks By Title Tests
     @Test
     void testSearchTasksByTitle_Success() {
         // Arrange
-        List<Task> tasks = Arrays.asList(testTask);
+        List<TaskDto> tasks = Arrays.asList(testTaskDto());
         when(userRepository.findByUsername(username)).thenReturn(testUser);
-        when(taskRepository.findByTitleContainingIgnoreCaseAndUserAndIsDeletedFalse("test", testUser))
+        when(taskRepository.findDtoPageByTitleLikeAndUser(eq("%test%"), eq(testUser), eq(TaskCursor.MIN_ID), any(Limit.class)))
                 .thenReturn(tasks);
 
         // Act
-        List<TaskDto> result = taskService.searchTasksByTitle("test", username);
+        TaskPage result = taskService.searchTasksByTitle("test", username, null, null);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1, result.size());
+        assertEquals(1, result.getTasks().size());
         verify(userRepository).findByUsername(username);
-        verify(taskRepository).findByTitleContainingIgnoreCaseAndUserAndIsDeletedFalse("test", testUser);
+        verify(taskRepository).findDtoPageByTitleLikeAndUser(eq("%test%"), eq(testUser), eq(TaskCursor.MIN_ID), any(Limit.class));
     }
 
     @Test
@@ -436,11 +670,11 @@ class TaskServiceImplTest {
 
         // Act & Assert
         assertThrows(UserNotFoundException.class, () -> {
-            taskService.searchTasksByTitle("test", username);
+            taskService.searchTasksByTitle("test", username, null, null);
         });
         
         verify(userRepository).findByUsername(username);
-        verify(taskRepository, never()).findByTitleContainingIgnoreCaseAndUserAndIsDeletedFalse(any(), any());
+        verify(taskRepository, never()).findDtoPageByTitleLikeAndUser(any(), any(), any(), any());
     }
 
     // Get Tasks Created Between Tests
@@ -449,20 +683,22 @@ class TaskServiceImplTest {
         // Arrange
         LocalDateTime startDate = now.minusDays(7);
         LocalDateTime endDate = now.plusDays(7);
-        List<Task> tasks = Arrays.asList(testTask);
+        List<TaskDto> tasks = Arrays.asList(testTaskDto());
         
         when(userRepository.findByUsername(username)).thenReturn(testUser);
-        when(taskRepository.findByCreatedAtBetweenAndUserAndIsDeletedFalse(startDate, endDate, testUser))
+        when(taskRepository.findDtoPageByCreatedAtBetweenAndUser(eq(startDate), eq(endDate), eq(testUser), eq(startDate),
+                eq(TaskCursor.MIN_ID), any(Limit.class)))
                 .thenReturn(tasks);
 
         // Act
-        List<TaskDto> result = taskService.getTasksCreatedBetween(startDate, endDate, username);
+        TaskPage result = taskService.getTasksCreatedBetween(startDate, endDate, username, null, null);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1, result.size());
+        assertEquals(1, result.getTasks().size());
         verify(userRepository).findByUsername(username);
-        verify(taskRepository).findByCreatedAtBetweenAndUserAndIsDeletedFalse(startDate, endDate, testUser);
+        verify(taskRepository).findDtoPageByCreatedAtBetweenAndUser(eq(startDate), eq(endDate), eq(testUser), eq(startDate),
+                eq(TaskCursor.MIN_ID), any(Limit.class));
     }
 
     @Test
@@ -475,30 +711,50 @@ class TaskServiceImplTest {
 
         // Act & Assert
         assertThrows(UserNotFoundException.class, () -> {
-            taskService.getTasksCreatedBetween(startDate, endDate, username);
+            taskService.getTasksCreatedBetween(startDate, endDate, username, null, null);
         });
         
         verify(userRepository).findByUsername(username);
-        verify(taskRepository, never()).findByCreatedAtBetweenAndUserAndIsDeletedFalse(any(), any(), any());
+        verify(taskRepository, never()).findDtoPageByCreatedAtBetweenAndUser(any(), any(), any(), any(), any(), any());
     }
 
     // Get Tasks Ordered By Priority And Due Date Tests
     @Test
     void testGetTasksOrderedByPriorityAndDueDate_Success() {
         // Arrange
-        List<Task> tasks = Arrays.asList(testTask);
+        List<TaskDto> tasks = Arrays.asList(testTaskDto());
         when(userRepository.findByUsername(username)).thenReturn(testUser);
-        when(taskRepository.findAllOrderByPriorityAndDueDateAndUserAndIsDeletedFalse(testUser))
+        when(taskRepository.findOrderedDtoPageAfterDueDate(eq(testUser), eq(-1), eq(TaskCursor.MIN_DATE_TIME),
+                eq(TaskCursor.MIN_ID), any(Limit.class)))
                 .thenReturn(tasks);
 
         // Act
-        List<TaskDto> result = taskService.getTasksOrderedByPriorityAndDueDate(username);
+        TaskPage result = taskService.getTasksOrderedByPriorityAndDueDate(username, null, null);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1, result.size());
+        assertEquals(1, result.getTasks().size());
         verify(userRepository).findByUsername(username);
-        verify(taskRepository).findAllOrderByPriorityAndDueDateAndUserAndIsDeletedFalse(testUser);
+        verify(taskRepository).findOrderedDtoPageAfterDueDate(eq(testUser), eq(-1), eq(TaskCursor.MIN_DATE_TIME),
+                eq(TaskCursor.MIN_ID), any(Limit.class));
+    }
+
+    @Test
+    void testGetTasksOrderedByPriorityAndDueDate_ContinuesAfterTaskWithoutDueDate() {
+        // Arrange
+        String cursor = TaskCursor.encode("priority", TaskPriority.MEDIUM.getRank(), null, taskId);
+        when(userRepository.findByUsername(username)).thenReturn(testUser);
+        when(taskRepository.findOrderedDtoPageAfterNullDueDate(eq(testUser), eq(TaskPriority.MEDIUM.getRank()), eq(taskId),
+                any(Limit.class)))
+                .thenReturn(List.of());
+
+        // Act
+        TaskPage result = taskService.getTasksOrderedByPriorityAndDueDate(username, cursor, null);
+
+        // Assert
+        assertTrue(result.getTasks().isEmpty());
+        assertNull(result.getNextCursor());
+        verify(taskRepository, never()).findOrderedDtoPageAfterDueDate(any(), anyInt(), any(), any(), any());
     }
 
     @Test
@@ -508,11 +764,11 @@ class TaskServiceImplTest {
 
         // Act & Assert
         assertThrows(UserNotFoundException.class, () -> {
-            taskService.getTasksOrderedByPriorityAndDueDate(username);
+            taskService.getTasksOrderedByPriorityAndDueDate(username, null, null);
         });
         
         verify(userRepository).findByUsername(username);
-        verify(taskRepository, never()).findAllOrderByPriorityAndDueDateAndUserAndIsDeletedFalse(any());
+        verify(taskRepository, never()).findOrderedDtoPageAfterDueDate(any(), anyInt(), any(), any(), any());
     }
 
     // Change Task Status Tests
@@ -863,16 +1119,11 @@ class TaskServiceImplTest {
         when(taskRepository.countByStatusAndUserAndIsDeletedFalse(TaskStatus.IN_PROGRESS, testUser)).thenReturn(2L);
         when(taskRepository.countByStatusAndUserAndIsDeletedFalse(TaskStatus.COMPLETED, testUser)).thenReturn(4L);
         when(taskRepository.countByStatusAndUserAndIsDeletedFalse(TaskStatus.CANCELLED, testUser)).thenReturn(1L);
-        when(taskRepository.findByDueDateBeforeAndUserAndIsDeletedFalse(any(LocalDateTime.class), eq(testUser)))
-                .thenReturn(Arrays.asList(testTask));
-        when(taskRepository.findByPriorityAndUserAndIsDeletedFalse(TaskPriority.URGENT, testUser))
-                .thenReturn(Arrays.asList());
-        when(taskRepository.findByPriorityAndUserAndIsDeletedFalse(TaskPriority.HIGH, testUser))
-                .thenReturn(Arrays.asList(testTask));
-        when(taskRepository.findByPriorityAndUserAndIsDeletedFalse(TaskPriority.MEDIUM, testUser))
-                .thenReturn(Arrays.asList(testTask));
-        when(taskRepository.findByPriorityAndUserAndIsDeletedFalse(TaskPriority.LOW, testUser))
-                .thenReturn(Arrays.asList());
+        when(taskRepository.countOverdueTasksByUser(any(LocalDateTime.class), eq(testUser))).thenReturn(1L);
+        when(taskRepository.countByPriorityAndUserAndIsDeletedFalse(TaskPriority.URGENT, testUser)).thenReturn(0L);
+        when(taskRepository.countByPriorityAndUserAndIsDeletedFalse(TaskPriority.HIGH, testUser)).thenReturn(1L);
+        when(taskRepository.countByPriorityAndUserAndIsDeletedFalse(TaskPriority.MEDIUM, testUser)).thenReturn(1L);
+        when(taskRepository.countByPriorityAndUserAndIsDeletedFalse(TaskPriority.LOW, testUser)).thenReturn(0L);
 
         // Act
         var result = taskService.getTaskStatistics(username);
@@ -885,7 +1136,9 @@ class TaskServiceImplTest {
         assertEquals(2L, result.getInProgressTasks());
         assertEquals(1L, result.getCancelledTasks());
         assertEquals(1L, result.getOverdueTasks());
+        assertEquals(1L, result.getTasksByPriority().get(TaskPriority.HIGH));
         verify(userRepository).findByUsername(username);
+        verify(taskRepository, never()).findOverdueTasksByUser(any(), any());
     }
 
     @Test
@@ -901,4 +1154,59 @@ class TaskServiceImplTest {
         verify(userRepository).findByUsername(username);
         verify(taskRepository, never()).countByUserAndIsDeletedFalse(any());
     }
+
+    @Test
+    void testSearchTasksByTitle_EscapesLikeWildcards() {
+        // Arrange
+        when(userRepository.findByUsername(username)).thenReturn(testUser);
+        when(taskRepository.findDtoPageByTitleLikeAndUser(eq("%50!% done!_now%"), eq(testUser), any(), any(Limit.class)))
+                .thenReturn(Arrays.asList());
+
+        // Act
+        TaskPage result = taskService.searchTasksByTitle("50% DONE_now", username, null, null);
+
+        // Assert
+        assertTrue(result.getTasks().isEmpty());
+        verify(taskRepository).findDtoPageByTitleLikeAndUser(eq("%50!% done!_now%"), eq(testUser), any(), any(Limit.class));
+    }
+
+    @Test
+    void testSearchTasksFullText_ReturnsTasksInRankOrder() {
+        // Arrange
+        UUID otherId = UUID.randomUUID();
+        TaskDto other = new TaskDto(otherId, "Other", null, TaskStatus.PENDING, TaskPriority.LOW, now, null, null);
+        when(userRepository.findByUsername(username)).thenReturn(testUser);
+        when(fullTextSearchService.search(testUser, "report", 10))
+                .thenReturn(Arrays.asList(new SearchHit(otherId, 2.0), new SearchHit(taskId, 1.0)));
+        when(taskRepository.findDtosByIdInAndUser(Arrays.asList(otherId, taskId), testUser))
+                .thenReturn(Arrays.asList(testTaskDto(), other));
+
+        // Act
+        List<TaskDto> result = taskService.searchTasksFullText("report", 10, username);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(otherId.toString(), result.get(0).getId());
+        assertEquals(taskId.toString(), result.get(1).getId());
+    }
+
+    @Test
+    void testSearchTasksFuzzy_ReturnsTasksInSimilarityOrder() {
+        // Arrange
+        when(userRepository.findByUsername(username)).thenReturn(testUser);
+        when(fuzzySearchService.search(testUser, "tset", 5)).thenReturn(List.of(new SearchHit(taskId, 0.4)));
+        when(taskRepository.findDtosByIdInAndUser(List.of(taskId), testUser)).thenReturn(List.of(testTaskDto()));
+
+        // Act
+        List<TaskDto> result = taskService.searchTasksFuzzy("tset", 5, username);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(taskId.toString(), result.get(0).getId());
+    }
+
+    private TaskDto testTaskDto() {
+        return new TaskDto(testTask.getId(), testTask.getTitle(), testTask.getDescription(), testTask.getStatus(),
+                testTask.getPriority(), testTask.getCreatedAt(), testTask.getUpdatedAt(), testTask.getDueDate());
+    }
 }
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -27,6 +28,8 @@ import com.akertesz.task_manager_api.dto.LoginRequest;
 import com.akertesz.task_manager_api.dto.LoginResponse;
 import com.akertesz.task_manager_api.dto.RegisterRequest;
 import com.akertesz.task_manager_api.exception.InvalidRequestException;
+import com.akertesz.task_manager_api.id.IdGenerator;
+import com.akertesz.task_manager_api.id.UuidV7Generator;
 import com.akertesz.task_manager_api.model.User;
 import com.akertesz.task_manager_api.repository.UserRepository;
 
@@ -48,6 +51,9 @@ class UserServiceTest {
     @Mock
     private Authentication authentication;
 
+    @Spy
+    private IdGenerator idGenerator = new UuidV7Generator();
+
     @InjectMocks
     private UserService userService;
 